@@ -29,10 +29,14 @@ public class BannedWordConfig {
 
     @Bean
     public BannedWordChecker bannedWordChecker() {
-        Resource resource = applicationContext.getResource(bannedWordLocation);
+        return new BannedWordChecker(
+                loadWords(applicationContext.getResource(bannedWordLocation), bannedWordLocation));
+    }
+
+    static Set<String> loadWords(Resource resource, String location) {
         if (!resource.exists()) {
             throw new IllegalStateException(
-                    "Banned word resource not found at " + bannedWordLocation);
+                    "Banned word resource not found at " + location);
         }
 
         Set<String> words;
@@ -46,14 +50,14 @@ public class BannedWordConfig {
                             .collect(Collectors.toUnmodifiableSet());
         } catch (IOException e) {
             throw new IllegalStateException(
-                    "Failed to load banned words from " + bannedWordLocation, e);
+                    "Failed to load banned words from " + location, e);
         }
 
         if (words.isEmpty()) {
             throw new IllegalStateException(
-                    "Banned word dictionary at " + bannedWordLocation + " must not be empty.");
+                    "Banned word dictionary at " + location + " must not be empty.");
         }
 
-        return new BannedWordChecker(words);
+        return words;
     }
 }
@@ -0,0 +1,238 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.util.BannedWordChecker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the banned word dictionary from {@code chatapp.banned-word.location}.
+ * <p>
+ * Reloads run on a single background thread: the file is read, a new automaton is built and
+ * then swapped into {@link BannedWordChecker} in one reference write, so chat handlers keep
+ * matching against the previous dictionary until the new one is complete. Requests that arrive
+ * while a reload is still queued share its result. A failed reload keeps the previous dictionary.
+ * <p>
+ * When the location resolves to a file on disk and {@code watch} is enabled, changes to that file
+ * trigger a reload after {@code watch-debounce}. Reloads can also be requested through
+ * {@link MaintenanceEndpoint} ({@code bannedwords}).
+ */
+@Slf4j
+@Component
+public class BannedWordReloader {
+
+    private final BannedWordChecker bannedWordChecker;
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final boolean watch;
+    private final Duration watchDebounce;
+
+    private final ExecutorService executor;
+    private final AtomicReference<CompletableFuture<Integer>> pending = new AtomicReference<>();
+    private final Timer buildTimer;
+    private final Counter failureCounter;
+
+    private volatile Instant lastReloadedAt;
+    private WatchService watchService;
+
+    public BannedWordReloader(
+            BannedWordChecker bannedWordChecker,
+            ResourceLoader resourceLoader,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.banned-word.location:classpath:fake_banned_words_10k.txt}") String location,
+            @Value("${chatapp.banned-word.watch:true}") boolean watch,
+            @Value("${chatapp.banned-word.watch-debounce:500ms}") Duration watchDebounce) {
+        this.bannedWordChecker = bannedWordChecker;
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        this.watch = watch;
+        this.watchDebounce = watchDebounce;
+        this.executor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("banned-word-reload").daemon(true).factory());
+
+        Gauge.builder("banned_words.dictionary.size", bannedWordChecker, BannedWordChecker::size)
+                .description("Words in the active banned word dictionary")
+                .register(meterRegistry);
+        this.buildTimer = Timer.builder("banned_words.dictionary.build.time")
+                .description("Time to build the banned word automaton on reload")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("banned_words.dictionary.reload.failures")
+                .description("Banned word reloads that kept the previous dictionary")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!watch) {
+            return;
+        }
+        Path file = resolveFile();
+        if (file == null) {
+            log.info("Banned word dictionary at {} is not a file - change watching disabled", location);
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            // 파일을 rename으로 교체하는 편집기도 있으므로 디렉터리 단위로 감시한다
+            file.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            log.warn("Could not watch banned word dictionary {}: {}", file, e.getMessage());
+            return;
+        }
+        Thread.ofPlatform()
+                .name("banned-word-watcher")
+                .daemon(true)
+                .start(() -> watchLoop(file));
+        log.info("Watching banned word dictionary {} for changes", file);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Failed to close banned word watch service: {}", e.getMessage());
+            }
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue a reload of the dictionary.
+     *
+     * @return future completed with the new dictionary size, or exceptionally if the reload failed
+     */
+    public CompletableFuture<Integer> reload() {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        CompletableFuture<Integer> queued = pending.compareAndExchange(null, future);
+        if (queued != null) {
+            return queued;
+        }
+        try {
+            executor.execute(() -> {
+                // 실행을 시작한 뒤 들어온 변경은 다음 reload에서 반영되도록 먼저 비운다
+                pending.set(null);
+                try {
+                    future.complete(doReload());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.set(null);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public int size() {
+        return bannedWordChecker.size();
+    }
+
+    public String location() {
+        return location;
+    }
+
+    public Instant lastReloadedAt() {
+        return lastReloadedAt;
+    }
+
+    private int doReload() {
+        try {
+            Set<String> words = BannedWordConfig.loadWords(resourceLoader.getResource(location), location);
+            long started = System.nanoTime();
+            bannedWordChecker.replaceWords(words);
+            long elapsedNanos = System.nanoTime() - started;
+            buildTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            lastReloadedAt = Instant.now();
+            int size = bannedWordChecker.size();
+            log.info("Banned word dictionary reloaded - words: {}, buildTime: {}ms",
+                    size, elapsedNanos / 1_000_000);
+            return size;
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Banned word reload from {} failed, keeping previous dictionary: {}",
+                    location, e.getMessage());
+            throw e;
+        }
+    }
+
+    private void watchLoop(Path file) {
+        Path fileName = file.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = containsFile(key, fileName);
+                if (changed) {
+                    // 한 번의 저장이 여러 이벤트를 만들기 때문에 잠시 기다렸다가 모아서 처리한다
+                    Thread.sleep(watchDebounce.toMillis());
+                    WatchKey next;
+                    while ((next = watchService.poll()) != null) {
+                        containsFile(next, fileName);
+                        next.reset();
+                    }
+                }
+                if (!key.reset()) {
+                    log.warn("Banned word dictionary directory {} is no longer watchable", file.getParent());
+                    return;
+                }
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // stop()에서 닫힌 경우
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean containsFile(WatchKey key, Path fileName) {
+        boolean found = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (fileName.equals(event.context())) {
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private Path resolveFile() {
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.isFile()) {
+            return null;
+        }
+        try {
+            return resource.getFile().toPath().toAbsolutePath();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.service.MessageIndexCleanup;
+import com.ktb.chatapp.service.ReadWatermarkMigration;
+import com.ktb.chatapp.service.RoomParticipantCountBackfill;
+import com.ktb.chatapp.service.RoomSearchIndexBackfill;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for operational jobs.
+ * {@code GET /actuator/maintenance} lists the jobs and the active banned word dictionary, and
+ * {@code POST /actuator/maintenance/{job}} runs one of them:
+ * <ul>
+ *   <li>{@code bannedwords}: reload the banned word dictionary from its configured location</li>
+ *   <li>{@code readwatermarks}: convert legacy message readers into read watermarks</li>
+ *   <li>{@code roomparticipantcounts}: recompute {@code participantsCount} from {@code participantIds}</li>
+ *   <li>{@code roomsearchindex}: fill the search fields of rooms saved before name search was indexed</li>
+ *   <li>{@code messageindexes}: drop the message index superseded by keyset paging</li>
+ * </ul>
+ * Every job is idempotent. Unknown jobs return 404 and failed jobs return 500 with the error.
+ * Not exposed by default; add {@code maintenance} to {@code management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "maintenance")
+public class MaintenanceEndpoint {
+
+    private final BannedWordReloader bannedWordReloader;
+    private final Map<String, Supplier<Map<String, Object>>> jobs = new LinkedHashMap<>();
+
+    public MaintenanceEndpoint(
+            BannedWordReloader bannedWordReloader,
+            ReadWatermarkMigration readWatermarkMigration,
+            RoomParticipantCountBackfill roomParticipantCountBackfill,
+            RoomSearchIndexBackfill roomSearchIndexBackfill,
+            MessageIndexCleanup messageIndexCleanup) {
+        this.bannedWordReloader = bannedWordReloader;
+
+        jobs.put("bannedwords", () -> Map.of("size", bannedWordReloader.reload().join()));
+        jobs.put("readwatermarks", () -> {
+            ReadWatermarkMigration.Result result = readWatermarkMigration.migrate();
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("watermarks", result.watermarks());
+            body.put("messagesCleared", result.messagesCleared());
+            body.put("indexDropped", result.indexDropped());
+            return body;
+        });
+        jobs.put("roomparticipantcounts", () -> Map.of("rooms", roomParticipantCountBackfill.backfill()));
+        jobs.put("roomsearchindex", () -> Map.of("rooms", roomSearchIndexBackfill.backfill()));
+        jobs.put("messageindexes", () -> Map.of("indexDropped", messageIndexCleanup.dropLegacyIndex()));
+    }
+
+    @ReadOperation
+    public Map<String, Object> jobs() {
+        Map<String, Object> dictionary = new LinkedHashMap<>();
+        dictionary.put("location", bannedWordReloader.location());
+        dictionary.put("size", bannedWordReloader.size());
+        dictionary.put("lastReloadedAt", bannedWordReloader.lastReloadedAt());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("jobs", jobs.keySet());
+        body.put("bannedwords", dictionary);
+        return body;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> run(@Selector String job) {
+        Supplier<Map<String, Object>> action = jobs.get(job);
+        if (action == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("job", job);
+        try {
+            Map<String, Object> result = action.get();
+            body.put("status", "completed");
+            body.putAll(result);
+            return new WebEndpointResponse<>(body);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            body.put("status", "failed");
+            body.put("error", cause.getMessage());
+            return new WebEndpointResponse<>(body, WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ktb.chatapp.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.config.SingleServerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.data.redis.RedisConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+
+/**
+ * Redisson 클라이언트 설정.
+ * Redis 기반 저장소가 선택된 경우에만 필요하므로 Lazy로 생성해,
+ * 사용하지 않는 환경에서는 Redis 연결을 만들지 않는다.
+ * <p>
+ * Testcontainers/Docker Compose가 제공하는 RedisConnectionDetails가 있으면 우선 사용하고,
+ * 없으면 spring.data.redis.* 속성을 사용한다.
+ */
+@Slf4j
+@Configuration
+public class RedisConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @Lazy
+    public RedissonClient redissonClient(
+            ObjectProvider<RedisConnectionDetails> connectionDetailsProvider,
+            Environment environment) {
+        RedisConnectionDetails connectionDetails = connectionDetailsProvider.getIfAvailable();
+
+        String host;
+        int port;
+        int database;
+        String username;
+        String password;
+        if (connectionDetails != null && connectionDetails.getStandalone() != null) {
+            host = connectionDetails.getStandalone().getHost();
+            port = connectionDetails.getStandalone().getPort();
+            database = connectionDetails.getStandalone().getDatabase();
+            username = connectionDetails.getUsername();
+            password = connectionDetails.getPassword();
+        } else {
+            host = environment.getProperty("spring.data.redis.host", "localhost");
+            port = environment.getProperty("spring.data.redis.port", Integer.class, 6379);
+            database = environment.getProperty("spring.data.redis.database", Integer.class, 0);
+            username = environment.getProperty("spring.data.redis.username");
+            password = environment.getProperty("spring.data.redis.password");
+        }
+
+        Config config = new Config();
+        SingleServerConfig serverConfig = config.useSingleServer()
+                .setAddress("redis://" + host + ":" + port)
+                .setDatabase(database);
+        if (username != null && !username.isBlank()) {
+            serverConfig.setUsername(username);
+        }
+        if (password != null && !password.isBlank()) {
+            serverConfig.setPassword(password);
+        }
+
+        log.info("Redisson client configured for {}:{} (db {})", host, port, database);
+        return Redisson.create(config);
+    }
+}
@@ -10,6 +10,10 @@ import com.corundumstudio.socketio.store.MemoryStoreFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ktb.chatapp.websocket.socketio.ChatDataStore;
 import com.ktb.chatapp.websocket.socketio.LocalChatDataStore;
+import com.ktb.chatapp.websocket.socketio.dispatch.DispatchingAnnotationScanner;
+import com.ktb.chatapp.websocket.socketio.dispatch.SocketIOEventDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanPostProcessor;
@@ -69,12 +73,36 @@ public class SocketIOConfig {
      * ApplicationContext 초기화 초기에 등록되고,
      * 내부에서 사용하는 SocketIOServer는 Lazy로 지연되어
      * 다른 Bean들의 초기화 과정에 간섭하지 않게 한다.
+     * direct 모드에서는 핸들러가 netty 워커 스레드에서 바로 실행된다.
      */
     @Bean
     @Role(ROLE_INFRASTRUCTURE)
-    public BeanPostProcessor springAnnotationScanner(@Lazy SocketIOServer socketIOServer) {
+    @ConditionalOnProperty(name = "socketio.dispatch.mode", havingValue = "direct")
+    public static BeanPostProcessor springAnnotationScanner(@Lazy SocketIOServer socketIOServer) {
         return new SpringAnnotationScanner(socketIOServer);
     }
+
+    /**
+     * 기본 모드. 핸들러를 클라이언트별 순서를 지키며 가상 스레드에서 실행해
+     * Mongo 지연이 같은 이벤트 루프의 다른 소켓으로 번지지 않게 한다.
+     * Dispatcher도 Lazy로 주입해 MeterRegistry가 너무 이르게 생성되지 않도록 한다.
+     */
+    @Bean
+    @Role(ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(name = "socketio.dispatch.mode", havingValue = "virtual-thread", matchIfMissing = true)
+    public static BeanPostProcessor dispatchingAnnotationScanner(
+            @Lazy SocketIOServer socketIOServer,
+            @Lazy SocketIOEventDispatcher socketIOEventDispatcher) {
+        return new DispatchingAnnotationScanner(socketIOServer, socketIOEventDispatcher);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "socketio.dispatch.mode", havingValue = "virtual-thread", matchIfMissing = true)
+    public SocketIOEventDispatcher socketIOEventDispatcher(
+            MeterRegistry meterRegistry,
+            @Value("${socketio.dispatch.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        return new SocketIOEventDispatcher(meterRegistry, shutdownTimeout);
+    }
     
     // 인메모리 저장소, 단일 노드 환경에서만 사용
     @Bean
@@ -4,9 +4,10 @@ import com.ktb.chatapp.annotation.RateLimit;
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomActivityCounter;
 import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.service.cache.RoomListCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -30,6 +31,7 @@ import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "채팅방 (Rooms)", description = "채팅방 생성 및 관리 API - 채팅방 목록 조회, 생성, 참여, 헬스체크")
 @Slf4j
@@ -39,8 +41,9 @@ import org.springframework.web.bind.annotation.*;
 public class RoomController {
 
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
+    private final RoomActivityCounter roomActivityCounter;
     private final RoomService roomService;
+    private final RoomListCache roomListCache;
 
     @Value("${spring.profiles.active:production}")
     private String activeProfile;
@@ -82,10 +85,11 @@ public class RoomController {
     }
 
     // 페이지네이션이 적용된 채팅방 목록 조회
-    @Operation(summary = "채팅방 목록 조회", description = "페이지네이션과 검색 기능이 적용된 채팅방 목록을 조회합니다. Rate Limit이 적용됩니다.")
+    @Operation(summary = "채팅방 목록 조회", description = "페이지네이션과 검색 기능이 적용된 채팅방 목록을 조회합니다. 응답의 ETag를 If-None-Match로 보내면 목록이 바뀌지 않은 경우 304를 반환합니다. Rate Limit이 적용됩니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "채팅방 목록 조회 성공",
             content = @Content(schema = @Schema(implementation = RoomsResponse.class))),
+        @ApiResponse(responseCode = "304", description = "목록 변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "429", description = "요청 한도 초과",
@@ -102,7 +106,7 @@ public class RoomController {
             @Parameter(description = "정렬 필드", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortField,
             @Parameter(description = "정렬 순서 (asc/desc)", example = "desc") @RequestParam(defaultValue = "desc") String sortOrder,
             @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search,
-            Principal principal) {
+            WebRequest webRequest) {
 
         try {
             // PageRequest DTO 생성
@@ -113,14 +117,28 @@ public class RoomController {
             pageRequest.setSortOrder(sortOrder);
             pageRequest.setSearch(search);
 
-            // 서비스에서 페이지네이션 처리
-            RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, principal.getName());
+            // 렌더링된 페이지 스냅샷 조회 (캐시 적중 시 DB 조회 없음)
+            RoomListCache.RoomListSnapshot snapshot = roomListCache.get(pageRequest);
+            CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(10));
+            if (snapshot.etag() == null) {
+                return ResponseEntity.ok()
+                    .cacheControl(cacheControl)
+                    .body(snapshot.response());
+            }
+
+            // 클라이언트가 가진 ETag와 같으면 본문 없이 304
+            if (webRequest.checkNotModified(snapshot.etag())) {
+                roomListCache.recordNotModified();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+            }
 
-            // 캐시 설정
             return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(10)))
-                .header("Last-Modified", java.time.Instant.now().toString())
-                .body(response);
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(snapshot.response());
 
         } catch (Exception e) {
             log.error("방 목록 조회 에러", e);
@@ -300,9 +318,8 @@ public class RoomController {
 
         boolean isCreator = room.getCreator().equals(name);
 
-        // 최근 10분간 메시지 수 조회
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(room.getId(), tenMinutesAgo);
+        // 최근 10분간 메시지 수 (room 문서의 활동 슬롯)
+        int recentMessageCount = roomActivityCounter.recentMessageCount(room);
 
         return RoomResponse.builder()
                 .id(room.getId())
@@ -312,7 +329,7 @@ public class RoomController {
                 .participants(participantSummaries)
                 .createdAtDateTime(room.getCreatedAt() != null ? room.getCreatedAt() : LocalDateTime.now())
                 .isCreator(isCreator)
-                .recentMessageCount((int) recentMessageCount)
+                .recentMessageCount(recentMessageCount)
                 .build();
     }
 }
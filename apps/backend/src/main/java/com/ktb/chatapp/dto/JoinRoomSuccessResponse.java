@@ -17,7 +17,9 @@ import java.util.List;
 public class JoinRoomSuccessResponse {
     private String roomId;
     private List<UserResponse> participants;
+    private long participantsVersion;
     private List<MessageResponse> messages;
     private boolean hasMore;
+    private String nextCursor;
     private List<ActiveStreamResponse> activeStreams;
 }
@@ -0,0 +1,28 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일정 시간 동안 한 메시지에 모인 리액션 변경분.
+ * 전체 리액션 맵 대신 (리액션, 사용자, add/remove)만 전달하므로 리액션한 사용자 수와 무관하게 작다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageReactionDeltaResponse {
+    private String messageId;
+    private List<Change> changes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        private String reaction;
+        private String userId;
+        private String type;
+    }
+}
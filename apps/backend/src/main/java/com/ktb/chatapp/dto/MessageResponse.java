@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
  * 메시지 응답 DTO.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MessageResponse {
@@ -41,7 +41,10 @@ public class MessageResponse {
     
     private Map<String, Set<String>> reactions;
     
+    // 읽음 위치로부터 계산한 읽은 사용자 (구 클라이언트 호환용)
     private List<Message.MessageReader> readers;
     
+    private int readCount;
+    
     private Map<String, Object> metadata;
 }
@@ -0,0 +1,27 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일정 시간 동안 모은 읽음 처리를 사용자별 읽음 위치로 한 번에 전달하는 응답.
+ * 각 사용자는 readUpTo(epoch millis) 이전 timestamp의 메시지를 모두 읽었다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagesReadBatchResponse {
+    private String roomId;
+    private List<Watermark> watermarks;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Watermark {
+        private String userId;
+        private long readUpTo;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재접속 시 마지막으로 본 메시지 이후의 메시지.
+ * truncated가 true면 놓친 메시지가 너무 많거나 기준 메시지를 찾지 못한 것이므로 첫 페이지를 다시 불러와야 한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessagesSyncResponse {
+    private String roomId;
+    private List<MessageResponse> messages;
+    private boolean truncated;
+}
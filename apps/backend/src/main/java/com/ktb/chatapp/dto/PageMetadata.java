@@ -11,6 +11,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PageMetadata {
     private long total;
+    /** 검색 후보가 잘렸을 수 있어 total이 실제 수보다 작을 수 있는지 여부 */
+    private boolean totalLowerBound;
     private int page;
     private int pageSize;
     private long totalPages;
@@ -20,7 +20,8 @@ public class PageRequest {
     public boolean isValidSortField() {
         return "createdAt".equals(sortField) ||
                "name".equals(sortField) ||
-               "participantsCount".equals(sortField);
+               "participantsCount".equals(sortField) ||
+               "recentMessageCount".equals(sortField);
     }
 
     public boolean isValidSortOrder() {
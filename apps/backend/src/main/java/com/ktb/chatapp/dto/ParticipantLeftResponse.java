@@ -0,0 +1,19 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일정 시간 동안 모은 퇴장 참가자 ID. version은 방의 참가자 변경 순번이다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantLeftResponse {
+    private String roomId;
+    private long version;
+    private List<String> userIds;
+}
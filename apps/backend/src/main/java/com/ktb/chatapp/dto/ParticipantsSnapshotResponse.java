@@ -0,0 +1,20 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * getParticipants 요청에 대한 전체 참가자 목록.
+ * version 이후의 participantJoined/participantLeft만 적용하면 된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantsSnapshotResponse {
+    private String roomId;
+    private long version;
+    private List<UserResponse> participants;
+}
@@ -0,0 +1,23 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 채팅방 참가자 변경 이벤트
+ * RoomRepository.addParticipant/removeParticipant 또는 방 저장으로 참가자 목록이 바뀐 뒤 발행한다.
+ */
+@Getter
+public class RoomParticipantsChangedEvent extends ApplicationEvent {
+
+    private final String roomId;
+    private final String userId;
+    private final boolean joined;
+
+    public RoomParticipantsChangedEvent(Object source, String roomId, String userId, boolean joined) {
+        super(source);
+        this.roomId = roomId;
+        this.userId = userId;
+        this.joined = joined;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 사용자 프로필(이름, 프로필 이미지) 변경 또는 탈퇴 이벤트
+ */
+@Getter
+public class UserProfileUpdatedEvent extends ApplicationEvent {
+
+    private final String userId;
+
+    public UserProfileUpdatedEvent(Object source, String userId) {
+        super(source);
+        this.userId = userId;
+    }
+}
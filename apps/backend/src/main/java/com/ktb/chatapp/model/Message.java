@@ -30,8 +30,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Document(collection = "messages")
 @CompoundIndexes({
-    @CompoundIndex(name = "readers_userId_idx", def = "{'readers.userId': 1}"),
-    @CompoundIndex(name = "room_isDeleted_timestamp_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1}")
+    @CompoundIndex(name = "room_isDeleted_timestamp_id_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1, '_id': -1}")
 })
 public class Message {
 
@@ -67,9 +66,8 @@ public class Message {
     @Builder.Default
     private Map<String, Set<String>> reactions = new HashMap<>();
 
-    // 메시지 읽음 상태 관리
-    @Builder.Default
-    private List<MessageReader> readers = new ArrayList<>();
+    // 구버전 메시지별 읽음 상태. 새 읽음 처리는 ReadWatermark에 저장하며 마이그레이션 후 제거된다.
+    private List<MessageReader> readers;
 
     // 자유 형식 metadata 저장 필드
     @Builder.Default
@@ -0,0 +1,43 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 방별 사용자 읽음 위치 문서.
+ * 사용자가 lastReadAt 시점까지의 메시지를 모두 읽었음을 나타내며, 메시지마다 readers를 저장하지 않는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "read_watermarks")
+@CompoundIndexes({
+    @CompoundIndex(name = "room_user_idx", def = "{'room': 1, 'user': 1}", unique = true),
+    @CompoundIndex(name = "room_lastReadAt_idx", def = "{'room': 1, 'lastReadAt': -1}")
+})
+public class ReadWatermark {
+
+    @Id
+    private String id;
+
+    @Field("room")
+    private String roomId;
+
+    @Field("user")
+    private String userId;
+
+    // 읽은 메시지 중 가장 최신 메시지의 timestamp (뒤로 이동하지 않는다)
+    private LocalDateTime lastReadAt;
+
+    // 마지막으로 읽음 처리된 시각
+    private LocalDateTime updatedAt;
+}
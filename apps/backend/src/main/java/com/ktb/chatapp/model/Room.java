@@ -1,8 +1,11 @@
 package com.ktb.chatapp.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.ktb.chatapp.util.RoomNameTokenizer;
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +19,9 @@ import org.springframework.data.mongodb.core.index.IndexDirection;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
 
 @Data
 @Builder
@@ -23,7 +29,10 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @AllArgsConstructor
 @Document(collection = "rooms")
 @CompoundIndexes({
-    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}")
+    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}"),
+    @CompoundIndex(name = "recentMessageCount_createdAt_idx", def = "{'recentMessageCount': -1, 'createdAt': -1}"),
+    @CompoundIndex(name = "participantsCount_createdAt_idx", def = "{'participantsCount': -1, 'createdAt': -1}"),
+    @CompoundIndex(name = "searchGrams_createdAt_idx", def = "{'searchGrams': 1, 'createdAt': -1}")
 })
 public class Room {
 
@@ -47,6 +56,46 @@ public class Room {
     @Field("participantIds")
     @Builder.Default
     private Set<String> participantIds = new HashSet<>();
+
+    /**
+     * participantIds 크기 (참여자 수 정렬용)
+     * RoomRepository.addParticipant/removeParticipant가 배열 변경과 같은 업데이트에서 $inc로 맞춘다.
+     */
+    private int participantsCount;
+
+    /**
+     * 검색용 정규화 이름과 n-gram. 저장할 때 name에서 다시 만든다 (RoomEventListener).
+     */
+    @JsonIgnore
+    @Indexed
+    private String searchName;
+
+    @JsonIgnore
+    private List<String> searchGrams;
+
+    /**
+     * 참가자 변경 브로드캐스트 순번 (participantJoined/participantLeft 이벤트마다 1씩 증가)
+     * 클라이언트는 순번이 건너뛰면 스냅샷을 다시 요청한다.
+     */
+    private long participantsVersion;
+
+    /**
+     * 분 단위 메시지 수 슬롯 (키 = epoch 분 % 슬롯 수). RoomActivityCounter가 주기적으로 기록한다.
+     */
+    private Map<String, ActivityBucket> activity;
+
+    /**
+     * 최근 10분간 메시지 수 스냅샷 (활동순 정렬용, 표시 값은 activity에서 계산)
+     */
+    private int recentMessageCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActivityBucket {
+        private long minute;
+        private int count;
+    }
     
     /**
      * 방에 참가자를 추가한다.
@@ -88,4 +137,24 @@ public class Room {
     public int getParticipantCount() {
         return this.participantIds != null ? this.participantIds.size() : 0;
     }
+
+    /**
+     * 검색 필드를 name에 맞춘다.
+     */
+    public void refreshSearchFields() {
+        this.searchName = RoomNameTokenizer.normalize(this.name);
+        this.searchGrams = RoomNameTokenizer.indexGrams(this.searchName);
+    }
+
+    /**
+     * Search fields refresh before save
+     */
+    @Component
+    public static class RoomEventListener extends AbstractMongoEventListener<Room> {
+
+        @Override
+        public void onBeforeConvert(BeforeConvertEvent<Room> event) {
+            event.getSource().refreshSearchFields();
+        }
+    }
 }
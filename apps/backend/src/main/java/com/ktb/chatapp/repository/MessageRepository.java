@@ -2,8 +2,9 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.Message;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
@@ -11,13 +12,26 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MessageRepository extends MongoRepository<Message, String> {
-    Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
     /**
-     * 특정 시간 이후의 메시지 수 카운트 (삭제되지 않은 메시지만)
-     * 최근 N분간 메시지 수를 조회할 때 사용
+     * 최신 메시지부터 조회. List 반환이므로 count 쿼리를 실행하지 않는다.
      */
-    @Query(value = "{ 'room': ?0, 'isDeleted': false, 'timestamp': { $gte: ?1 } }", count = true)
-    long countRecentMessagesByRoomId(String roomId, LocalDateTime since);
+    List<Message> findByRoomIdAndIsDeleted(String roomId, Boolean isDeleted, Pageable pageable);
+
+    List<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
+
+    /**
+     * (timestamp, _id) keyset 커서 이전의 메시지 조회 (삭제되지 않은 메시지만)
+     * timestamp DESC, _id DESC 정렬과 함께 사용해야 같은 timestamp의 메시지가 누락되지 않는다.
+     */
+    @Query("{ 'room': ?0, 'isDeleted': false, $or: [ { 'timestamp': { $lt: ?1 } }, { 'timestamp': ?1, '_id': { $lt: ?2 } } ] }")
+    List<Message> findBeforeCursor(String roomId, LocalDateTime timestamp, ObjectId messageId, Pageable pageable);
+
+    /**
+     * (timestamp, _id) keyset 커서 이후의 메시지 조회 (삭제되지 않은 메시지만, 재접속 시 놓친 메시지용)
+     * timestamp ASC, _id ASC 정렬과 함께 사용한다.
+     */
+    @Query("{ 'room': ?0, 'isDeleted': false, $or: [ { 'timestamp': { $gt: ?1 } }, { 'timestamp': ?1, '_id': { $gt: ?2 } } ] }")
+    List<Message> findAfterCursor(String roomId, LocalDateTime timestamp, ObjectId messageId, Pageable pageable);
 
     /**
      * fileId로 메시지 조회 (파일 권한 검증용)
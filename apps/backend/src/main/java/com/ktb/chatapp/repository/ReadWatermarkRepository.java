@@ -0,0 +1,14 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.ReadWatermark;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReadWatermarkRepository extends MongoRepository<ReadWatermark, String> {
+    List<ReadWatermark> findByRoomId(String roomId);
+
+    List<ReadWatermark> findByRoomIdAndLastReadAtGreaterThanEqual(String roomId, LocalDateTime lastReadAt);
+}
@@ -16,9 +16,6 @@ public interface RoomRepository extends MongoRepository<Room, String> {
     // 페이지네이션과 함께 모든 방 조회
     Page<Room> findAll(Pageable pageable);
 
-    // 검색어와 함께 페이지네이션 조회
-    Page<Room> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
     // 가장 최근에 생성된 방 조회 (Health Check용)
     @Query(value = "{}", sort = "{ 'createdAt': -1 }")
     Optional<Room> findMostRecentRoom();
@@ -27,11 +24,13 @@ public interface RoomRepository extends MongoRepository<Room, String> {
     @Query(value = "{}", fields = "{ '_id': 1 }")
     Optional<Room> findOneForHealthCheck();
 
-    @Query("{'_id': ?0}")
-    @Update("{'$addToSet': {'participantIds': ?1}}")
-    void addParticipant(String roomId, String userId);
+    // 이미 참여 중이면 매칭되지 않으므로 participantsCount는 실제로 추가될 때만 증가한다 (추가되면 1, 아니면 0)
+    @Query("{'_id': ?0, 'participantIds': {'$ne': ?1}}")
+    @Update("{'$addToSet': {'participantIds': ?1}, '$inc': {'participantsCount': 1}}")
+    long addParticipant(String roomId, String userId);
 
-    @Query("{'_id': ?0}")
-    @Update("{'$pull': {'participantIds': ?1}}")
+    // 참여 중이 아니면 매칭되지 않으므로 participantsCount는 실제로 제거될 때만 감소한다
+    @Query("{'_id': ?0, 'participantIds': ?1}")
+    @Update("{'$pull': {'participantIds': ?1}, '$inc': {'participantsCount': -1}}")
     void removeParticipant(String roomId, String userId);
 }
@@ -2,12 +2,20 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.Session;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface SessionRepository extends MongoRepository<Session, String> {
     Optional<Session> findByUserId(String userId);
     void deleteByUserId(String userId);
+
+    // 활동 시간만 갱신 (문서 전체 저장 없이 $set)
+    @Query("{'userId': ?0, 'sessionId': ?1}")
+    @Update("{'$set': {'lastActivity': ?2, 'expiresAt': ?3}}")
+    void touch(String userId, String sessionId, long lastActivity, Instant expiresAt);
 }
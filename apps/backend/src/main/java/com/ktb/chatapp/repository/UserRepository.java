@@ -2,11 +2,18 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
+
+    // 참가자 목록용 단일 $in 조회 (UserResponse에 필요한 필드만)
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ 'name': 1, 'email': 1, 'profileImage': 1 }")
+    List<User> findSummariesByIdIn(Collection<String> ids);
 }
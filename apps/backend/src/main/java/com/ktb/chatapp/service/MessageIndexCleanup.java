@@ -0,0 +1,39 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Message;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops the {@code room_isDeleted_timestamp_idx} index on {@code messages}.
+ * <p>
+ * Keyset paging uses {@code room_isDeleted_timestamp_id_idx}, which covers the same prefix, but
+ * auto index creation never removes an index, so databases created before it keep maintaining the
+ * old one on every message write. Triggered through {@code MaintenanceEndpoint}
+ * ({@code messageindexes}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageIndexCleanup {
+
+    static final String LEGACY_TIMESTAMP_INDEX = "room_isDeleted_timestamp_idx";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * @return whether the index existed and was dropped
+     */
+    public synchronized boolean dropLegacyIndex() {
+        var indexOps = mongoTemplate.indexOps(Message.class);
+        boolean exists = indexOps.getIndexInfo().stream()
+                .anyMatch(index -> LEGACY_TIMESTAMP_INDEX.equals(index.getName()));
+        if (exists) {
+            indexOps.dropIndex(LEGACY_TIMESTAMP_INDEX);
+        }
+        log.info("Message index cleanup finished - indexDropped: {}", exists);
+        return exists;
+    }
+}
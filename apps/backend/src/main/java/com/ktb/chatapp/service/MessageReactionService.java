@@ -0,0 +1,127 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Message;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메시지 리액션 관리 서비스
+ * 문서를 읽어서 저장하지 않고 reactions.&lt;emoji&gt;에 대한 단일 원자적 업데이트로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageReactionService {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 리액션 변경 결과
+     *
+     * @param messageId 메시지 ID
+     * @param roomId 메시지가 속한 방 ID
+     * @param reactions 변경 후 리액션 전체 (빈 리액션은 제외)
+     */
+    public record ReactionUpdate(String messageId, String roomId, Map<String, Set<String>> reactions) {}
+
+    /**
+     * 리액션 추가 ($addToSet)
+     *
+     * @return 메시지가 없으면 empty
+     */
+    public Optional<ReactionUpdate> addReaction(String messageId, String reaction, String userId) {
+        return applyReactions(messageId, Map.of(reaction, Set.of(userId)), Map.of());
+    }
+
+    /**
+     * 리액션 제거 ($pull). 마지막 사용자가 빠지면 해당 리액션 키도 제거한다.
+     *
+     * @return 메시지가 없으면 empty
+     */
+    public Optional<ReactionUpdate> removeReaction(String messageId, String reaction, String userId) {
+        return applyReactions(messageId, Map.of(), Map.of(reaction, Set.of(userId)));
+    }
+
+    /**
+     * 한 메시지에 모인 리액션 추가/제거를 한 번의 원자적 업데이트로 적용
+     * 같은 리액션에 추가와 제거가 함께 있으면 같은 경로를 한 업데이트에서 바꿀 수 없으므로 제거만 따로 적용한다.
+     * 마지막 사용자가 빠진 리액션은 키도 제거한다.
+     *
+     * @param added 리액션별 추가할 사용자 ID
+     * @param removed 리액션별 제거할 사용자 ID
+     * @return 메시지가 없으면 empty
+     */
+    public Optional<ReactionUpdate> applyReactions(
+            String messageId, Map<String, Set<String>> added, Map<String, Set<String>> removed) {
+        Update update = new Update();
+        Update conflicting = new Update();
+        added.forEach((reaction, userIds) ->
+                update.addToSet(reactionField(reaction)).each(userIds.toArray()));
+        removed.forEach((reaction, userIds) ->
+                (added.containsKey(reaction) ? conflicting : update)
+                        .pullAll(reactionField(reaction), userIds.toArray()));
+
+        Optional<ReactionUpdate> result = modify(messageId, update);
+        if (result.isPresent() && !conflicting.getUpdateObject().isEmpty()) {
+            result = modify(messageId, conflicting);
+        }
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Set<String>> reactions = new HashMap<>(result.get().reactions());
+        for (String reaction : removed.keySet()) {
+            Set<String> remaining = reactions.get(reaction);
+            if (remaining == null || !remaining.isEmpty()) {
+                continue;
+            }
+            // 그사이 다른 사용자가 추가했다면 size 조건이 맞지 않아 제거하지 않는다
+            String field = reactionField(reaction);
+            mongoTemplate.updateFirst(
+                    new Query(Criteria.where("_id").is(messageId).and(field).size(0)),
+                    new Update().unset(field),
+                    Message.class);
+            reactions.remove(reaction);
+        }
+        return Optional.of(new ReactionUpdate(messageId, result.get().roomId(), reactions));
+    }
+
+    /**
+     * MongoDB 필드 경로로 쓸 수 있는 리액션인지 확인
+     */
+    public static boolean isValidReaction(String reaction) {
+        return reaction != null && !reaction.isBlank()
+                && reaction.indexOf('.') < 0 && !reaction.startsWith("$");
+    }
+
+    private Optional<ReactionUpdate> modify(String messageId, Update update) {
+        Query query = new Query(Criteria.where("_id").is(messageId));
+        query.fields().include("roomId").include("reactions");
+        Message modified = mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Message.class);
+        if (modified == null) {
+            return Optional.empty();
+        }
+        Map<String, Set<String>> reactions = modified.getReactions() != null
+                ? modified.getReactions()
+                : Map.of();
+        return Optional.of(new ReactionUpdate(modified.getId(), modified.getRoomId(), reactions));
+    }
+
+    private static String reactionField(String reaction) {
+        if (!isValidReaction(reaction)) {
+            throw new IllegalArgumentException("Invalid reaction: " + reaction);
+        }
+        return "reactions." + reaction;
+    }
+}
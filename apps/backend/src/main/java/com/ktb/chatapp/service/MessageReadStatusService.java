@@ -1,59 +1,143 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.model.ReadWatermark;
+import com.ktb.chatapp.repository.ReadWatermarkRepository;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 /**
  * 메시지 읽음 상태 관리 서비스
+ * 메시지마다 readers를 쌓는 대신 (방, 사용자)별 읽음 위치 하나만 저장한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageReadStatusService {
 
-    private final MessageRepository messageRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ReadWatermarkRepository readWatermarkRepository;
 
     /**
-     * 메시지 읽음 상태 업데이트
+     * 읽음 위치 후보 (읽은 메시지 중 가장 최신 메시지의 방과 timestamp)
+     */
+    public record ReadPosition(String roomId, LocalDateTime readUpTo) {}
+
+    /**
+     * 전달된 메시지 중 가장 최신 메시지의 방과 timestamp를 쿼리 한 번으로 조회 (읽음 위치 후보)
+     * 다른 방의 메시지 ID가 섞여 있으면 가장 최신 메시지의 방 기준으로 처리된다.
+     *
+     * @param messageIds 읽은 메시지 ID 목록
+     * @return 해당하는 메시지가 없거나 실패하면 empty
+     */
+    public Optional<ReadPosition> findReadPosition(List<String> messageIds) {
+        if (messageIds == null || messageIds.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Query query = new Query(Criteria.where("_id").in(messageIds))
+                    .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+                    .limit(1);
+            query.fields().include("roomId").include("timestamp");
+            Message latest = mongoTemplate.findOne(query, Message.class);
+            if (latest == null || latest.getRoomId() == null || latest.getRoomId().isBlank()) {
+                return Optional.empty();
+            }
+            return Optional.of(new ReadPosition(latest.getRoomId(), latest.getTimestamp()));
+        } catch (Exception e) {
+            log.error("Read position lookup error for messages {}", messageIds, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 읽음 위치를 readUpTo까지 전진 ($max이므로 이전 페이지를 읽어도 뒤로 이동하지 않는다)
      *
-     * @param messageIds 읽음 상태를 업데이트할 메시지 리스트
+     * @param roomId 방 ID
      * @param userId 읽은 사용자 ID
+     * @param readUpTo 읽은 메시지 중 가장 최신 메시지의 timestamp
      */
-    public void updateReadStatus(List<String> messageIds, String userId) {
-        if (messageIds.isEmpty()) {
+    public void markReadUpTo(String roomId, String userId, LocalDateTime readUpTo) {
+        if (roomId == null || userId == null || readUpTo == null) {
             return;
         }
-        
-        Message.MessageReader readerInfo = Message.MessageReader.builder()
-                .userId(userId)
-                .readAt(LocalDateTime.now())
-                .build();
-        
+        Query query = new Query(Criteria.where("roomId").is(roomId).and("userId").is(userId));
+        Update update = new Update()
+                .max("lastReadAt", readUpTo)
+                .set("updatedAt", LocalDateTime.now());
         try {
-            List<Message> messagesToUpdate = messageRepository.findAllById(messageIds);
-            for (Message message : messagesToUpdate) {
-                if (message.getReaders() == null) {
-                    message.setReaders(new ArrayList<>());
-                }
-                boolean alreadyRead = message.getReaders().stream()
-                        .anyMatch(r -> r.getUserId().equals(userId));
-                if (!alreadyRead) {
-                    message.getReaders().add(readerInfo);
-                }
-                messageRepository.save(message);
+            try {
+                mongoTemplate.upsert(query, update, ReadWatermark.class);
+            } catch (DuplicateKeyException e) {
+                // 같은 사용자의 첫 읽음이 동시에 upsert된 경우, 이미 생성된 문서를 갱신
+                mongoTemplate.upsert(query, update, ReadWatermark.class);
             }
-            
-            log.debug("Read status updated for {} messages by user {}",
-                    messagesToUpdate.size(), userId);
-
+            log.debug("Read watermark updated - roomId: {}, userId: {}, readUpTo: {}", roomId, userId, readUpTo);
         } catch (Exception e) {
             log.error("Read status update error for user {}", userId, e);
         }
     }
+
+    /**
+     * 여러 사용자의 읽음 위치를 한 번의 bulkWrite로 전진
+     *
+     * @param roomId 방 ID
+     * @param readUpToByUser 사용자 ID별 읽은 메시지 중 가장 최신 메시지의 timestamp
+     */
+    public void markReadUpTo(String roomId, Map<String, LocalDateTime> readUpToByUser) {
+        if (roomId == null || readUpToByUser.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            try {
+                upsertWatermarks(roomId, readUpToByUser, now);
+            } catch (BulkOperationException e) {
+                // 첫 읽음이 동시에 upsert되어 중복 키가 난 경우, 이미 생성된 문서를 갱신 ($max라 재실행해도 안전)
+                upsertWatermarks(roomId, readUpToByUser, now);
+            }
+            log.debug("Read watermarks updated - roomId: {}, users: {}", roomId, readUpToByUser.size());
+        } catch (Exception e) {
+            log.error("Read watermark batch update error for room {}", roomId, e);
+        }
+    }
+
+    private void upsertWatermarks(String roomId, Map<String, LocalDateTime> readUpToByUser, LocalDateTime now) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadWatermark.class);
+        readUpToByUser.forEach((userId, readUpTo) -> bulk.upsert(
+                new Query(Criteria.where("roomId").is(roomId).and("userId").is(userId)),
+                new Update().max("lastReadAt", readUpTo).set("updatedAt", now)));
+        bulk.execute();
+    }
+
+    /**
+     * 페이지의 메시지를 읽은 사용자의 읽음 위치 조회 (메시지별 읽은 사용자 계산용)
+     * 가장 오래된 메시지보다 앞선 읽음 위치는 페이지의 어떤 메시지도 읽지 않았으므로 제외한다.
+     *
+     * @param roomId 방 ID
+     * @param oldest 페이지에서 가장 오래된 메시지의 timestamp (null이면 방 전체)
+     */
+    public ReadWatermarks findWatermarks(String roomId, LocalDateTime oldest) {
+        try {
+            return new ReadWatermarks(oldest != null
+                    ? readWatermarkRepository.findByRoomIdAndLastReadAtGreaterThanEqual(roomId, oldest)
+                    : readWatermarkRepository.findByRoomId(roomId));
+        } catch (Exception e) {
+            log.error("Read watermark lookup error for room {}", roomId, e);
+            return ReadWatermarks.empty();
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.ReadWatermark;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.Fields;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts the legacy per-message {@code readers} arrays into read watermarks.
+ * <p>
+ * For every (room, user) pair found in {@code messages.readers} the watermark is advanced to the
+ * newest message that user had read, using {@code $max} so running the job again or while
+ * clients keep reading never moves a watermark backwards. Afterwards the {@code readers} arrays
+ * are removed and the {@code readers_userId_idx} index is dropped. Triggered through
+ * {@code MaintenanceEndpoint} ({@code readwatermarks}).
+ */
+@Slf4j
+@Component
+public class ReadWatermarkMigration {
+
+    static final String LEGACY_READERS_INDEX = "readers_userId_idx";
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public ReadWatermarkMigration(
+            MongoTemplate mongoTemplate,
+            @Value("${chatapp.read-status.migration.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public record Result(long watermarks, long messagesCleared, boolean indexDropped) {}
+
+    public synchronized Result migrate() {
+        long watermarks = upsertWatermarks();
+        long cleared = mongoTemplate.updateMulti(
+                new Query(Criteria.where("readers").exists(true)),
+                new Update().unset("readers"),
+                Message.class).getModifiedCount();
+        boolean indexDropped = dropLegacyIndex();
+        log.info("Read watermark migration finished - watermarks: {}, messagesCleared: {}, indexDropped: {}",
+                watermarks, cleared, indexDropped);
+        return new Result(watermarks, cleared, indexDropped);
+    }
+
+    private long upsertWatermarks() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("readers.0").exists(true)),
+                Aggregation.unwind("readers"),
+                Aggregation.group(Fields.from(
+                                Fields.field("room", "room"),
+                                Fields.field("user", "readers.userId")))
+                        .max("timestamp").as("lastReadAt")
+                        .max("readers.readAt").as("updatedAt"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long total = 0;
+        int pending = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadWatermark.class);
+        try (Stream<Document> groups = mongoTemplate.aggregateStream(aggregation, "messages", Document.class)) {
+            for (Document group : (Iterable<Document>) groups::iterator) {
+                Document key = group.get("_id", Document.class);
+                Date lastReadAt = group.getDate("lastReadAt");
+                if (key == null || key.getString("room") == null || key.getString("user") == null
+                        || lastReadAt == null) {
+                    continue;
+                }
+                Date updatedAt = group.getDate("updatedAt");
+                bulk.upsert(
+                        new Query(Criteria.where("roomId").is(key.getString("room"))
+                                .and("userId").is(key.getString("user"))),
+                        new Update()
+                                .max("lastReadAt", toLocalDateTime(lastReadAt))
+                                .max("updatedAt", toLocalDateTime(updatedAt != null ? updatedAt : lastReadAt)));
+                total++;
+                if (++pending >= batchSize) {
+                    bulk.execute();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReadWatermark.class);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+        return total;
+    }
+
+    private boolean dropLegacyIndex() {
+        var indexOps = mongoTemplate.indexOps(Message.class);
+        boolean exists = indexOps.getIndexInfo().stream()
+                .anyMatch(index -> LEGACY_READERS_INDEX.equals(index.getName()));
+        if (exists) {
+            indexOps.dropIndex(LEGACY_READERS_INDEX);
+        }
+        return exists;
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,61 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.ReadWatermark;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한 방의 읽음 위치 스냅샷.
+ * 메시지별 읽은 사용자를 읽음 위치로부터 계산하고, 마이그레이션 전 문서에 남아 있는 readers도 합친다.
+ */
+public final class ReadWatermarks {
+
+    private static final ReadWatermarks EMPTY = new ReadWatermarks(List.of());
+
+    private final List<ReadWatermark> watermarks;
+
+    public ReadWatermarks(List<ReadWatermark> watermarks) {
+        this.watermarks = List.copyOf(watermarks);
+    }
+
+    public static ReadWatermarks empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 메시지를 읽은 사용자 목록 (구 클라이언트 호환용 readers 투영)
+     *
+     * @param message timestamp가 있는 메시지
+     * @return 읽음 위치가 메시지 timestamp 이후인 사용자와 문서에 남은 readers
+     */
+    public List<Message.MessageReader> readersOf(Message message) {
+        List<Message.MessageReader> readers = new ArrayList<>();
+        Set<String> userIds = new HashSet<>();
+        if (message.getReaders() != null) {
+            for (Message.MessageReader reader : message.getReaders()) {
+                if (userIds.add(reader.getUserId())) {
+                    readers.add(reader);
+                }
+            }
+        }
+        LocalDateTime timestamp = message.getTimestamp();
+        if (timestamp == null) {
+            return readers;
+        }
+        for (ReadWatermark watermark : watermarks) {
+            if (watermark.getLastReadAt() != null
+                    && !watermark.getLastReadAt().isBefore(timestamp)
+                    && userIds.add(watermark.getUserId())) {
+                readers.add(Message.MessageReader.builder()
+                        .userId(watermark.getUserId())
+                        .readAt(watermark.getUpdatedAt())
+                        .build());
+            }
+        }
+        return readers;
+    }
+}
@@ -0,0 +1,300 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Room;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방별 최근 메시지 수 집계
+ * 메시지를 보낼 때마다 메모리의 분 단위 링에 더하고, flushInterval마다 증가분을 room 문서의
+ * activity 슬롯(epoch 분 % SLOTS)에 반영한다. 방 목록은 조회한 room 문서의 슬롯만 더하면 되므로
+ * messages 컬렉션을 세지 않는다.
+ * <p>
+ * 슬롯 갱신은 파이프라인 업데이트 한 번으로 처리해 여러 노드가 같은 방을 동시에 기록해도 합산된다.
+ * 같은 업데이트에서 정렬용 recentMessageCount도 다시 계산하고, 활동이 끊긴 방은 WINDOW_MINUTES가
+ * 지날 때까지 분이 바뀔 때마다 다시 계산해 0으로 내려가게 한다.
+ * <p>
+ * 재시작이나 장애로 링을 잃은 방은 더 이상 flush되지 않으므로, sweepInterval마다 가장 최근 슬롯이
+ * 구간을 벗어났는데 recentMessageCount가 남아 있는 방을 같은 파이프라인으로 다시 계산한다.
+ */
+@Slf4j
+@Service
+public class RoomActivityCounter {
+
+    /** 최근 메시지 수를 세는 구간 (분) */
+    public static final int WINDOW_MINUTES = 10;
+    /** room 문서의 분 슬롯 수. 늦게 도착한 증가분이 구간 안의 슬롯을 덮어쓰지 않도록 여유를 둔다. */
+    static final int SLOTS = WINDOW_MINUTES + 2;
+
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+
+    private final Map<String, RoomRing> rings = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter recordedCounter;
+    private final Counter flushedCounter;
+    private final Counter sweptCounter;
+
+    @Autowired
+    public RoomActivityCounter(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.room-activity.flush-interval:5s}") Duration flushInterval,
+            @Value("${chatapp.room-activity.sweep-interval:1m}") Duration sweepInterval) {
+        this(mongoTemplate, meterRegistry, flushInterval, sweepInterval, Clock.systemUTC());
+    }
+
+    RoomActivityCounter(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            Duration flushInterval,
+            Duration sweepInterval,
+            Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("room-activity-flush").daemon(true).factory());
+
+        this.recordedCounter = Counter.builder("chat.room_activity.recorded")
+                .description("Messages counted into room activity rings")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("chat.room_activity.flushed")
+                .description("Room activity snapshots written to the rooms collection")
+                .register(meterRegistry);
+        this.sweptCounter = Counter.builder("chat.room_activity.swept")
+                .description("Stale recentMessageCount values recomputed without an in-memory ring")
+                .register(meterRegistry);
+        Gauge.builder("chat.room_activity.rooms", rings, Map::size)
+                .description("Rooms with activity inside the window on this node")
+                .register(meterRegistry);
+
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        long sweepMillis = sweepInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::sweepSafely, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 방에 메시지 하나가 추가되었음을 기록
+     */
+    public void record(String roomId) {
+        if (roomId == null) {
+            return;
+        }
+        long minute = currentMinute();
+        rings.compute(roomId, (id, ring) -> {
+            if (ring == null) {
+                ring = new RoomRing();
+            }
+            ring.increment(minute);
+            return ring;
+        });
+        recordedCounter.increment();
+    }
+
+    /**
+     * room 문서에 저장된 슬롯으로 최근 WINDOW_MINUTES분간 메시지 수를 계산
+     */
+    public int recentMessageCount(Room room) {
+        if (room == null || room.getActivity() == null) {
+            return 0;
+        }
+        long oldest = currentMinute() - WINDOW_MINUTES + 1;
+        int count = 0;
+        for (Room.ActivityBucket bucket : room.getActivity().values()) {
+            if (bucket != null && bucket.getMinute() >= oldest) {
+                count += bucket.getCount();
+            }
+        }
+        return count;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Room activity flush error", e);
+        }
+    }
+
+    /**
+     * 증가분이 있거나 분이 바뀐 방의 슬롯과 recentMessageCount를 room 문서에 반영
+     */
+    void flush() {
+        long now = currentMinute();
+        List<String> roomIds = new ArrayList<>();
+        List<List<long[]>> deltas = new ArrayList<>();
+
+        for (String roomId : List.copyOf(rings.keySet())) {
+            rings.computeIfPresent(roomId, (id, ring) -> {
+                List<long[]> roomDeltas = ring.drain();
+                if (!roomDeltas.isEmpty() || ring.lastWrittenMinute < now) {
+                    ring.lastWrittenMinute = now;
+                    roomIds.add(roomId);
+                    deltas.add(roomDeltas);
+                }
+                // 구간을 벗어난 방은 0으로 다시 계산한 뒤 링을 버린다
+                return ring.lastMinute <= now - WINDOW_MINUTES ? null : ring;
+            });
+        }
+        if (roomIds.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+        for (int i = 0; i < roomIds.size(); i++) {
+            bulk.updateOne(new Query(Criteria.where("_id").is(roomIds.get(i))), snapshotUpdate(deltas.get(i), now));
+        }
+        bulk.execute();
+        flushedCounter.increment(roomIds.size());
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("Room activity sweep error", e);
+        }
+    }
+
+    /**
+     * 가장 최근 슬롯이 구간을 벗어났는데 recentMessageCount가 0보다 큰 방을 다시 계산
+     * 링을 가진 노드가 없어 flush로는 0으로 내려가지 않는 방(재시작, 장애)을 정리한다.
+     *
+     * @return 다시 계산해 값이 바뀐 방 수
+     */
+    long sweep() {
+        long now = currentMinute();
+        Document newestMinute = new Document("$max", new Document("$map", new Document()
+                .append("input", activitySlots())
+                .append("in", "$$this.v.minute")));
+        Query stale = new Query(new Criteria().andOperator(
+                Criteria.where("recentMessageCount").gt(0),
+                Criteria.expr(() -> new Document("$lt", List.of(newestMinute, now - WINDOW_MINUTES + 1)))));
+        AggregationUpdate update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", new Document("recentMessageCount", recentCount(now)))));
+
+        long swept = mongoTemplate.updateMulti(stale, update, Room.class).getModifiedCount();
+        if (swept > 0) {
+            sweptCounter.increment(swept);
+            log.debug("Recomputed stale recentMessageCount for {} rooms", swept);
+        }
+        return swept;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        flushSafely();
+    }
+
+    private long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+    }
+
+    /**
+     * 슬롯의 분이 같으면 더하고, 더 오래된 분이면 새 분으로 바꾸고, 더 최근 분이면 늦은 증가분이므로 버린다.
+     * 마지막으로 구간 안의 슬롯을 더해 recentMessageCount를 다시 계산한다.
+     */
+    private static AggregationUpdate snapshotUpdate(List<long[]> deltas, long now) {
+        List<AggregationOperation> stages = new ArrayList<>(deltas.size() + 1);
+        for (long[] delta : deltas) {
+            long minute = delta[0];
+            long count = delta[1];
+            String slot = "activity." + Math.floorMod(minute, SLOTS);
+            Document current = new Document("$ifNull", List.of("$" + slot + ".minute", -1L));
+            Document bucket = new Document("$cond", List.of(
+                    new Document("$eq", List.of(current, minute)),
+                    new Document("minute", minute)
+                            .append("count", new Document("$add", List.of("$" + slot + ".count", count))),
+                    new Document("$cond", List.of(
+                            new Document("$gt", List.of(current, minute)),
+                            "$" + slot,
+                            new Document("minute", minute).append("count", count)))));
+            stages.add(context -> new Document("$set", new Document(slot, bucket)));
+        }
+
+        Document recentCount = recentCount(now);
+        stages.add(context -> new Document("$set", new Document("recentMessageCount", recentCount)));
+        return AggregationUpdate.from(stages);
+    }
+
+    /**
+     * 구간 안의 슬롯을 더한 값 (recentMessageCount)
+     */
+    private static Document recentCount(long now) {
+        return new Document("$sum", new Document("$map", new Document()
+                .append("input", activitySlots())
+                .append("in", new Document("$cond", List.of(
+                        new Document("$gte", List.of("$$this.v.minute", now - WINDOW_MINUTES + 1)),
+                        "$$this.v.count",
+                        0)))));
+    }
+
+    /**
+     * activity 슬롯을 {k, v} 배열로 (슬롯이 없으면 빈 배열)
+     */
+    private static Document activitySlots() {
+        return new Document("$objectToArray", new Document("$ifNull", List.of("$activity", new Document())));
+    }
+
+    /**
+     * 한 방의 분 단위 링. rings.compute 안에서만 수정된다.
+     */
+    private static final class RoomRing {
+        private final long[] minutes = new long[SLOTS];
+        private final int[] counts = new int[SLOTS];
+        private final int[] flushed = new int[SLOTS];
+        private long lastMinute = Long.MIN_VALUE;
+        private long lastWrittenMinute = Long.MIN_VALUE;
+
+        void increment(long minute) {
+            int slot = (int) Math.floorMod(minute, SLOTS);
+            if (minutes[slot] != minute) {
+                minutes[slot] = minute;
+                counts[slot] = 0;
+                flushed[slot] = 0;
+            }
+            counts[slot]++;
+            lastMinute = Math.max(lastMinute, minute);
+        }
+
+        /**
+         * 아직 저장하지 않은 증가분을 (분, 증가분)으로 꺼낸다.
+         */
+        List<long[]> drain() {
+            List<long[]> deltas = new ArrayList<>(2);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                int delta = counts[slot] - flushed[slot];
+                if (delta > 0) {
+                    deltas.add(new long[]{minutes[slot], delta});
+                    flushed[slot] = counts[slot];
+                }
+            }
+            return deltas;
+        }
+    }
+}
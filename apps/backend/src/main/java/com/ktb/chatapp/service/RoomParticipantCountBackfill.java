@@ -0,0 +1,41 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Room;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills {@code rooms.participantsCount} for rooms created before the counter existed.
+ * <p>
+ * Every room whose counter differs from the size of {@code participantIds} is fixed with a single
+ * server-side pipeline update, so the job is idempotent and safe to run while users join and
+ * leave: each document is recomputed from its own array atomically. Triggered through
+ * {@code MaintenanceEndpoint} ({@code roomparticipantcounts}).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomParticipantCountBackfill {
+
+    private static final Document PARTICIPANT_IDS_SIZE =
+            new Document("$size", new Document("$ifNull", List.of("$participantIds", List.of())));
+
+    private final MongoTemplate mongoTemplate;
+
+    public synchronized long backfill() {
+        BasicQuery mismatched = new BasicQuery(new Document("$expr",
+                new Document("$ne", List.of(new Document("$ifNull", List.of("$participantsCount", -1)), PARTICIPANT_IDS_SIZE))));
+        AggregationUpdate recount = AggregationUpdate.from(List.of(
+                context -> new Document("$set", new Document("participantsCount", PARTICIPANT_IDS_SIZE))));
+
+        long updated = mongoTemplate.updateMulti(mismatched, recount, Room.class).getModifiedCount();
+        log.info("Room participant count backfill finished - rooms: {}", updated);
+        return updated;
+    }
+}
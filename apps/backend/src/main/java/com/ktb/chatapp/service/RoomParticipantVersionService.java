@@ -0,0 +1,51 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Room;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방별 참가자 변경 순번 관리 서비스
+ * 노드가 여러 개여도 순번이 겹치지 않도록 room 문서의 participantsVersion을 $inc로 올린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomParticipantVersionService {
+
+    private static final String FIELD = "participantsVersion";
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 현재 순번 조회
+     *
+     * @return 방이 없으면 empty
+     */
+    public OptionalLong current(String roomId) {
+        Query query = new Query(Criteria.where("_id").is(roomId));
+        query.fields().include(FIELD);
+        Room room = mongoTemplate.findOne(query, Room.class);
+        return room != null ? OptionalLong.of(room.getParticipantsVersion()) : OptionalLong.empty();
+    }
+
+    /**
+     * 순번을 steps만큼 올린다. 호출자는 (반환값 - steps + 1)부터 반환값까지를 차례로 사용한다.
+     *
+     * @return 증가 후 순번, 방이 없으면 empty
+     */
+    public OptionalLong advance(String roomId, int steps) {
+        Query query = new Query(Criteria.where("_id").is(roomId));
+        query.fields().include(FIELD);
+        Room room = mongoTemplate.findAndModify(query, new Update().inc(FIELD, steps),
+                FindAndModifyOptions.options().returnNew(true), Room.class);
+        return room != null ? OptionalLong.of(room.getParticipantsVersion()) : OptionalLong.empty();
+    }
+}
@@ -0,0 +1,65 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Room;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills {@code rooms.searchName} and {@code rooms.searchGrams} for rooms saved before name search
+ * was indexed.
+ * <p>
+ * Only rooms without {@code searchName} are read (name only) and updated in unordered bulk batches,
+ * so running the job again is cheap. Rooms saved afterwards get the fields from
+ * {@code Room.RoomEventListener}. Triggered through {@code MaintenanceEndpoint} ({@code roomsearchindex}).
+ */
+@Slf4j
+@Component
+public class RoomSearchIndexBackfill {
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public RoomSearchIndexBackfill(
+            MongoTemplate mongoTemplate,
+            @Value("${chatapp.room-search.backfill.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public synchronized long backfill() {
+        Query missing = new Query(Criteria.where("searchName").exists(false));
+        missing.fields().include("name");
+
+        long total = 0;
+        int pending = 0;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+        try (Stream<Room> rooms = mongoTemplate.stream(missing, Room.class)) {
+            for (Room room : (Iterable<Room>) rooms::iterator) {
+                room.refreshSearchFields();
+                bulk.updateOne(
+                        new Query(Criteria.where("_id").is(room.getId())),
+                        new Update()
+                                .set("searchName", room.getSearchName())
+                                .set("searchGrams", room.getSearchGrams()));
+                total++;
+                if (++pending >= batchSize) {
+                    bulk.execute();
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+                    pending = 0;
+                }
+            }
+        }
+        if (pending > 0) {
+            bulk.execute();
+        }
+        log.info("Room search index backfill finished - rooms: {}", total);
+        return total;
+    }
+}
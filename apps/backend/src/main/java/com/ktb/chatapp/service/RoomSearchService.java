@@ -0,0 +1,132 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.util.RoomNameTokenizer;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 이름 검색
+ * 후보는 두 갈래로 모은다.
+ * <ul>
+ *   <li>완전 일치/이름 시작: searchName 앞부분 일치를 searchName 색인 범위로 찾는다. 색인 순서상 완전 일치가
+ *   가장 앞에 오므로 오래된 방도 후보에서 빠지지 않는다.</li>
+ *   <li>포함: 검색어의 n-gram을 모두 가진 방을 searchGrams_createdAt_idx로 찾고, 정규화 이름에 검색어가
+ *   실제로 포함되는지 확인한다.</li>
+ * </ul>
+ * 갈래마다 최대 maxCandidates개를 합친 뒤 관련도(완전 일치 > 이름 시작 > 단어 시작 > 포함), 짧은 이름,
+ * 최신순으로 정렬하므로 방 수가 늘어도 검색 비용이 일정하다.
+ */
+@Slf4j
+@Service
+public class RoomSearchService {
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxCandidates;
+
+    public RoomSearchService(
+            MongoTemplate mongoTemplate,
+            @Value("${chatapp.room-search.max-candidates:1000}") int maxCandidates) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxCandidates = Math.max(1, maxCandidates);
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param page 관련도 순 페이지
+     * @param totalLowerBound 후보가 maxCandidates에서 잘렸을 수 있어 전체 수가 하한인지 여부
+     */
+    public record SearchResult(Page<Room> page, boolean totalLowerBound) {}
+
+    /**
+     * @return 관련도 순 페이지. 합친 후보가 maxCandidates개 이상이면 전체 수는 하한이다.
+     */
+    public SearchResult search(String query, Pageable pageable) {
+        String normalized = RoomNameTokenizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return new SearchResult(Page.empty(pageable), false);
+        }
+
+        Document position = new Document("$indexOfCP", List.of("$searchName", normalized));
+        Document relevance = new Document("$switch", new Document()
+                .append("branches", List.of(
+                        branch(new Document("$eq", List.of("$searchName", normalized)), 3),
+                        branch(new Document("$eq", List.of(position, 0)), 2),
+                        branch(new Document("$gte", List.of(
+                                new Document("$indexOfCP", List.of("$searchName", " " + normalized)), 0)), 1)))
+                .append("default", 0));
+
+        List<AggregationOperation> stages = List.of(
+                // 완전 일치/이름 시작 후보 (searchName 색인 순서라 정렬 비용이 없다)
+                stage("$match", new Document("searchName", new Document("$regex", "^" + escapeRegex(normalized)))),
+                stage("$sort", new Document("searchName", 1)),
+                stage("$limit", maxCandidates),
+                // 포함 후보 (최신 maxCandidates개)
+                stage("$unionWith", new Document("coll", "rooms").append("pipeline", List.of(
+                        new Document("$match", new Document("searchGrams",
+                                new Document("$all", RoomNameTokenizer.queryGrams(normalized)))
+                                .append("$expr", new Document("$gte", List.of(position, 0)))),
+                        new Document("$sort", new Document("createdAt", -1)),
+                        new Document("$limit", maxCandidates)))),
+                stage("$group", new Document("_id", "$_id").append("room", new Document("$first", "$$ROOT"))),
+                stage("$replaceWith", "$room"),
+                stage("$set", new Document("_relevance", relevance)
+                        .append("_nameLength", new Document("$strLenCP", "$searchName"))),
+                stage("$facet", new Document()
+                        .append("rooms", List.of(
+                                new Document("$sort", new Document("_relevance", -1)
+                                        .append("_nameLength", 1)
+                                        .append("createdAt", -1)
+                                        .append("_id", -1)),
+                                new Document("$skip", pageable.getOffset()),
+                                new Document("$limit", pageable.getPageSize())))
+                        .append("total", List.of(new Document("$count", "count")))));
+
+        Document result = mongoTemplate.aggregate(Aggregation.newAggregation(stages), "rooms", Document.class)
+                .getUniqueMappedResult();
+        if (result == null) {
+            return new SearchResult(Page.empty(pageable), false);
+        }
+
+        List<Room> rooms = result.getList("rooms", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(Room.class, document))
+                .toList();
+        List<Document> total = result.getList("total", Document.class);
+        long count = total.isEmpty() ? 0 : ((Number) total.getFirst().get("count")).longValue();
+        // 두 갈래 모두 maxCandidates개 미만이면 합친 수도 그보다 작으므로, 그 이상일 때만 잘렸을 수 있다
+        return new SearchResult(new PageImpl<>(rooms, pageable, count), count >= maxCandidates);
+    }
+
+    private static AggregationOperation stage(String operator, Object body) {
+        return context -> new Document(operator, body);
+    }
+
+    private static Document branch(Document condition, int score) {
+        return new Document("case", condition).append("then", score);
+    }
+
+    /**
+     * 정규식 메타 문자를 하나씩 이스케이프 (\Q..\E를 쓰면 색인 범위로 바뀌지 않는다)
+     */
+    private static String escapeRegex(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ("\\^$.|?*+()[]{}".indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -2,17 +2,21 @@ package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
 import com.ktb.chatapp.event.RoomUpdatedEvent;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +37,8 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
+    private final RoomActivityCounter roomActivityCounter;
+    private final RoomSearchService roomSearchService;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
     @Qualifier("applicationTaskExecutor")
@@ -56,44 +61,43 @@ public class RoomService {
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
 
-            // 정렬 필드 매핑 (participantsCount는 특별 처리 필요)
+            // 카운터 필드는 createdAt과 함께 정렬해 (필드, createdAt) 복합 인덱스를 사용한다
             String sortField = pageRequest.getSortField();
-            if ("participantsCount".equals(sortField)) {
-                sortField = "participantIds"; // MongoDB 필드명으로 변경
-            }
+            Sort sort = "participantsCount".equals(sortField) || "recentMessageCount".equals(sortField)
+                ? Sort.by(direction, sortField, "createdAt")
+                : Sort.by(direction, sortField);
 
             // Pageable 객체 생성
             PageRequest springPageRequest = PageRequest.of(
                 pageRequest.getPage(),
                 pageRequest.getPageSize(),
-                Sort.by(direction, sortField)
+                sort
             );
 
-            // 검색어가 있는 경우와 없는 경우 분리
-            Page<Room> roomPage;
-            if (pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()) {
-                roomPage = roomRepository.findByNameContainingIgnoreCase(
-                    pageRequest.getSearch().trim(), springPageRequest);
-            } else {
-                roomPage = roomRepository.findAll(springPageRequest);
-            }
+            // 검색어가 있으면 n-gram 색인으로 찾아 관련도 순으로 정렬한다 (요청한 정렬은 무시)
+            boolean searching = pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty();
+            RoomSearchService.SearchResult searchResult = searching
+                ? roomSearchService.search(pageRequest.getSearch(), springPageRequest)
+                : null;
+            Page<Room> roomPage = searching
+                ? searchResult.page()
+                : roomRepository.findAll(springPageRequest);
 
-            // Room을 RoomResponse로 변환
-            List<RoomResponse> roomResponses = roomPage.getContent().stream()
-                .map(room -> mapToRoomResponse(room, name))
-                .collect(Collectors.toList());
+            // Room을 RoomResponse로 변환 (페이지 크기와 관계없이 사용자 조회 1회)
+            List<RoomResponse> roomResponses = mapToRoomResponses(roomPage.getContent(), name);
 
             // 메타데이터 생성
             PageMetadata metadata = PageMetadata.builder()
                 .total(roomPage.getTotalElements())
+                .totalLowerBound(searching && searchResult.totalLowerBound())
                 .page(pageRequest.getPage())
                 .pageSize(pageRequest.getPageSize())
                 .totalPages(roomPage.getTotalPages())
                 .hasMore(roomPage.hasNext())
                 .currentCount(roomResponses.size())
                 .sort(PageMetadata.SortInfo.builder()
-                    .field(pageRequest.getSortField())
-                    .order(pageRequest.getSortOrder())
+                    .field(searching ? "relevance" : pageRequest.getSortField())
+                    .order(searching ? "desc" : pageRequest.getSortOrder())
                     .build())
                 .build();
 
@@ -197,16 +201,24 @@ public class RoomService {
             }
         }
 
-        // 이미 참여중인지 확인
-        if (!room.getParticipantIds().contains(user.getId())) {
-            // 채팅방 참여
-            room.getParticipantIds().add(user.getId());
-            room = roomRepository.save(room);
+        // 이미 참여중이면 방이 바뀌지 않으므로 이벤트를 발행하지 않는다
+        // (방 목록에서 방에 들어올 때마다 호출되므로 방 목록 캐시를 비우지 않도록)
+        if (room.getParticipantIds().contains(user.getId())) {
+            return room;
         }
-        
+
+        // 채팅방 참여
+        // 문서 전체를 저장하면 그사이 바뀐 참가자/순번을 덮어쓰므로 $addToSet만 적용
+        // 다른 요청이 먼저 추가했으면 매칭되지 않으므로 실제로 추가했을 때만 이벤트를 발행한다
+        room.getParticipantIds().add(user.getId());
+        if (roomRepository.addParticipant(roomId, user.getId()) == 0) {
+            return room;
+        }
+        eventPublisher.publishEvent(new RoomParticipantsChangedEvent(this, roomId, user.getId(), true));
+
         // Publish event for room updated
         try {
-            RoomResponse roomResponse = mapToRoomResponse(room, name);
+            RoomResponse roomResponse = mapToRoomResponses(List.of(room), name).getFirst();
             eventPublisher.publishEvent(new RoomUpdatedEvent(this, roomId, roomResponse));
         } catch (Exception e) {
             log.error("roomUpdate 이벤트 발행 실패", e);
@@ -221,6 +233,7 @@ public class RoomService {
         room.setName(createRoomRequest.getName().trim());
         room.setCreator(creator.getId());
         room.getParticipantIds().add(creator.getId());
+        room.setParticipantsCount(room.getParticipantIds().size());
         room.setCreatedAt(LocalDateTime.now());
 
         if (createRoomRequest.getPassword() != null && !createRoomRequest.getPassword().isEmpty()) {
@@ -256,20 +269,37 @@ public class RoomService {
                 .build();
     }
 
-    private RoomResponse mapToRoomResponse(Room room, String name) {
-        if (room == null) return null;
+    /**
+     * 방 목록을 RoomResponse로 변환
+     * 생성자와 참여자는 한 번의 $in 조회로 가져오고, 최근 10분간 메시지 수는 room 문서의 활동 슬롯으로 계산한다.
+     */
+    private List<RoomResponse> mapToRoomResponses(List<Room> rooms, String name) {
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
 
-        User creator = null;
-        if (room.getCreator() != null) {
-            creator = userRepository.findById(room.getCreator()).orElse(null);
+        Set<String> userIds = new HashSet<>();
+        for (Room room : rooms) {
+            if (room.getCreator() != null) {
+                userIds.add(room.getCreator());
+            }
+            userIds.addAll(room.getParticipantIds());
         }
+        Map<String, User> users = userIds.isEmpty() ? Map.of() : userRepository.findSummariesByIdIn(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        return rooms.stream()
+            .map(room -> mapToRoomResponse(room, name, users, roomActivityCounter.recentMessageCount(room)))
+            .collect(Collectors.toList());
+    }
 
-        // 개선: findAllById를 사용하여 한 번의 쿼리로 모든 참여자를 조회
-        List<User> participants = userRepository.findAllById(room.getParticipantIds());
+    private RoomResponse mapToRoomResponse(Room room, String name, Map<String, User> users, int recentMessageCount) {
+        User creator = room.getCreator() != null ? users.get(room.getCreator()) : null;
 
-        // 최근 10분간 메시지 수 조회
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(room.getId(), tenMinutesAgo);
+        List<User> participants = room.getParticipantIds().stream()
+            .map(users::get)
+            .filter(Objects::nonNull)
+            .toList();
 
         return RoomResponse.builder()
             .id(room.getId())
@@ -281,7 +311,7 @@ public class RoomService {
                 .email(creator.getEmail() != null ? creator.getEmail() : "")
                 .build() : null)
             .participants(participants.stream()
-                .filter(p -> p != null && p.getId() != null)
+                .filter(p -> p.getId() != null)
                 .map(p -> UserResponse.builder()
                     .id(p.getId())
                     .name(p.getName() != null ? p.getName() : "알 수 없음")
@@ -290,7 +320,7 @@ public class RoomService {
                 .collect(Collectors.toList()))
             .createdAtDateTime(room.getCreatedAt() != null ? room.getCreatedAt() : LocalDateTime.now())
             .isCreator(creator != null && creator.getId().equals(name))
-            .recentMessageCount((int) recentMessageCount)
+            .recentMessageCount(recentMessageCount)
             .build();
     }
 }
@@ -2,6 +2,8 @@ package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Session;
 import com.ktb.chatapp.service.session.SessionStore;
+import com.ktb.chatapp.service.session.ValidatedSessionCache;
+import com.ktb.chatapp.service.session.ValidatedSessionCache.CachedSession;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import static com.ktb.chatapp.model.Session.SESSION_TTL;
 public class SessionService {
 
     private final SessionStore sessionStore;
+    private final ValidatedSessionCache sessionCache;
     public static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(SESSION_TTL).getSeconds();
     private static final long SESSION_TIMEOUT = SESSION_TTL_SEC * 1000;
 
@@ -52,6 +55,7 @@ public class SessionService {
                     .build();
 
             session = sessionStore.save(session);
+            sessionCache.put(session);
             
             SessionData sessionData = toSessionData(session);
 
@@ -74,33 +78,39 @@ public class SessionService {
                 return SessionValidationResult.invalid("INVALID_PARAMETERS", "유효하지 않은 세션 파라미터");
             }
 
-            Session session = sessionStore.findByUserId(userId).orElse(null);
-            
-            if (session == null) {
-                log.warn("No session found for userId: {}", userId);
-                return SessionValidationResult.invalid("INVALID_SESSION", "세션을 찾을 수 없습니다.");
-            }
+            // 캐시에 있는 세션이 다르면 다른 곳에서 재로그인했을 수 있으므로 저장소에서 다시 확인
+            CachedSession cached = sessionCache.get(userId)
+                    .filter(entry -> sessionId.equals(entry.getSessionId()))
+                    .orElse(null);
 
-            if (!sessionId.equals(session.getSessionId())) {
-                log.warn("Session ID mismatch for userId: {}. Provided: {}, Expected: {}", userId, sessionId, session.getSessionId());
-                return SessionValidationResult.invalid("INVALID_SESSION", "잘못된 세션 ID입니다.");
+            if (cached == null) {
+                Session session = sessionStore.findByUserId(userId).orElse(null);
+
+                if (session == null) {
+                    log.warn("No session found for userId: {}", userId);
+                    return SessionValidationResult.invalid("INVALID_SESSION", "세션을 찾을 수 없습니다.");
+                }
+
+                if (!sessionId.equals(session.getSessionId())) {
+                    log.warn("Session ID mismatch for userId: {}. Provided: {}, Expected: {}", userId, sessionId, session.getSessionId());
+                    return SessionValidationResult.invalid("INVALID_SESSION", "잘못된 세션 ID입니다.");
+                }
+
+                cached = sessionCache.put(session);
             }
 
             // Check if session has timed out
             long now = Instant.now().toEpochMilli();
-            if (now - session.getLastActivity() > SESSION_TIMEOUT) {
+            if (now - cached.getLastActivity() > SESSION_TIMEOUT) {
                 log.warn("Session timed out for userId: {}, sessionId: {}", userId, sessionId);
                 removeSession(userId, sessionId);
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
             // Update last activity
-            session.setLastActivity(now);
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            session = sessionStore.save(session);
+            touch(userId, cached, now);
 
-            SessionData sessionData = toSessionData(session);
-            return SessionValidationResult.valid(sessionData);
+            return SessionValidationResult.valid(cached.toSessionData(userId));
 
         } catch (Exception e) {
             log.error("Session validation error for userId: {}, sessionId: {}", userId, sessionId, e);
@@ -115,23 +125,34 @@ public class SessionService {
                 return;
             }
 
-            Session session = sessionStore.findByUserId(userId).orElse(null);
-            if (session == null) {
+            CachedSession cached = sessionCache.get(userId)
+                    .or(() -> sessionStore.findByUserId(userId).map(sessionCache::put))
+                    .orElse(null);
+            if (cached == null) {
                 log.debug("No session found to update last activity for user: {}", userId);
                 return;
             }
 
-            session.setLastActivity(Instant.now().toEpochMilli());
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            sessionStore.save(session);
+            touch(userId, cached, Instant.now().toEpochMilli());
             
         } catch (Exception e) {
             log.error("Failed to update session activity for user: {}", userId, e);
         }
     }
 
+    /**
+     * lastActivity는 메모리에서 갱신하고, 저장된 값이 임계값보다 오래된 경우에만 저장소에 기록한다.
+     */
+    private void touch(String userId, CachedSession cached, long now) {
+        if (sessionCache.recordActivity(cached, now)) {
+            sessionStore.touch(userId, cached.getSessionId(), now,
+                    Instant.ofEpochMilli(now).plusSeconds(SESSION_TTL_SEC));
+        }
+    }
+
     public void removeSession(String userId, String sessionId) {
         try {
+            sessionCache.evict(userId);
             if (sessionId != null) {
                 sessionStore.delete(userId, sessionId);
             } else {
@@ -145,6 +166,7 @@ public class SessionService {
 
     public void removeAllUserSessions(String userId) {
         try {
+            sessionCache.evict(userId);
             sessionStore.deleteAll(userId);
         } catch (Exception e) {
             log.error("Remove all sessions error for userId: {}", userId, e);
@@ -164,7 +186,13 @@ public class SessionService {
                 return null;
             }
 
-            return toSessionData(session);
+            // 아직 저장소에 기록되지 않은 최근 활동 시간을 반영
+            SessionData sessionData = toSessionData(session);
+            sessionCache.get(userId)
+                    .filter(cached -> cached.getSessionId().equals(session.getSessionId()))
+                    .ifPresent(cached -> sessionData.setLastActivity(
+                            Math.max(sessionData.getLastActivity(), cached.getLastActivity())));
+            return sessionData;
         } catch (Exception e) {
             log.error("Get active session error for userId: {}", userId, e);
             return null;
@@ -0,0 +1,273 @@
+package com.ktb.chatapp.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
+import com.ktb.chatapp.model.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * In-process ring of the most recent mapped messages per room, used to answer the first
+ * history page without a MongoDB query.
+ * <p>
+ * Each room holds at most {@code size} messages in an immutable {@link RoomMessages} snapshot
+ * ordered by (timestamp, id), replaced atomically per room. The broadcast paths append new
+ * messages and the reaction/read paths patch them. A room's ring only serves reads after it has
+ * been seeded from a MongoDB page, so messages sent before the first load are merged instead of
+ * hiding older history.
+ * <p>
+ * Rooms are weighed by an estimate of their retained bytes and evicted by Caffeine once
+ * {@code max-bytes} is reached, least recently used first, or after {@code idle-ttl} without
+ * access. Rooms holding messages of a user whose profile changed are dropped. The ring is
+ * node-local and only sees messages broadcast by this node.
+ */
+@Component
+public class RecentMessageCache {
+
+    static final String CACHE_NAME = "recentMessages";
+
+    private static final Comparator<MessageResponse> ORDER =
+            Comparator.comparingLong(MessageResponse::getTimestamp)
+                    .thenComparing(MessageResponse::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Cache<String, RoomMessages> cache;
+    private final int capacity;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RecentMessageCache(
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.cache.recent-messages.size:50}") int capacity,
+            @Value("${chatapp.cache.recent-messages.max-bytes:64MB}") DataSize maxBytes,
+            @Value("${chatapp.cache.recent-messages.idle-ttl:30m}") Duration idleTtl) {
+        this.capacity = Math.max(1, capacity);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((String roomId, RoomMessages room) -> room.weight())
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.hitCounter = Counter.builder("chat.history.recent")
+                .description("First history pages served from the recent message ring")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chat.history.recent")
+                .description("First history pages served from the recent message ring")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A first history page served from memory, in ascending order.
+     */
+    public record RecentPage(List<MessageResponse> messages, boolean hasMore) {}
+
+    /**
+     * Serve the newest {@code limit} messages of a room if the ring can answer completely.
+     *
+     * @return empty if the room is not seeded or holds fewer messages than requested while
+     *         older ones exist in the store
+     */
+    public Optional<RecentPage> firstPage(String roomId, int limit) {
+        RoomMessages room = roomId != null ? cache.getIfPresent(roomId) : null;
+        if (room == null || !room.seeded() || (room.messages().size() < limit && room.olderInStore())) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        List<MessageResponse> messages = room.messages();
+        int from = Math.max(0, messages.size() - limit);
+        hitCounter.increment();
+        return Optional.of(new RecentPage(
+                messages.subList(from, messages.size()),
+                from > 0 || room.olderInStore()));
+    }
+
+    /**
+     * Serve the messages newer than {@code messageId} if the ring still holds that message.
+     *
+     * @return messages after {@code messageId} in ascending order, or empty if the room is not
+     *         seeded or the message has already been pushed out of the ring
+     */
+    public Optional<List<MessageResponse>> since(String roomId, String messageId) {
+        RoomMessages room = roomId != null ? cache.getIfPresent(roomId) : null;
+        if (room == null || !room.seeded() || messageId == null) {
+            return Optional.empty();
+        }
+        List<MessageResponse> messages = room.messages();
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messageId.equals(messages.get(i).getId())) {
+                return Optional.of(messages.subList(i + 1, messages.size()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Merge a first history page loaded from the store and mark the room as servable.
+     *
+     * @param page newest messages in ascending order
+     * @param olderInStore whether the store has messages older than {@code page}
+     */
+    public void seed(String roomId, List<MessageResponse> page, boolean olderInStore) {
+        if (roomId == null) {
+            return;
+        }
+        cache.asMap().compute(roomId, (id, current) -> {
+            // 동시에 들어온 실시간 메시지/패치가 더 최신이므로 기존 항목을 우선한다
+            Map<String, MessageResponse> merged = new LinkedHashMap<>();
+            page.forEach(message -> merged.put(message.getId(), message));
+            if (current != null) {
+                current.messages().forEach(message -> merged.put(message.getId(), message));
+            }
+            return RoomMessages.of(merged.values(), true, olderInStore, capacity);
+        });
+    }
+
+    /**
+     * Add a message that was just broadcast to the room.
+     */
+    public void append(MessageResponse message) {
+        if (message == null || message.getRoomId() == null || message.getId() == null) {
+            return;
+        }
+        cache.asMap().compute(message.getRoomId(), (id, current) -> {
+            Map<String, MessageResponse> merged = new LinkedHashMap<>();
+            if (current != null) {
+                current.messages().forEach(existing -> merged.put(existing.getId(), existing));
+            }
+            merged.put(message.getId(), message);
+            return current == null
+                    ? RoomMessages.of(merged.values(), false, false, capacity)
+                    : RoomMessages.of(merged.values(), current.seeded(), current.olderInStore(), capacity);
+        });
+    }
+
+    /**
+     * Replace the reactions of a cached message.
+     */
+    public void updateReactions(String roomId, String messageId, Map<String, Set<String>> reactions) {
+        Map<String, Set<String>> copy = new HashMap<>();
+        if (reactions != null) {
+            reactions.forEach((reaction, users) -> copy.put(reaction, Set.copyOf(users)));
+        }
+        patch(roomId, message -> messageId.equals(message.getId()), message -> message.toBuilder().reactions(copy).build());
+    }
+
+    /**
+     * Add {@code userId} to the readers of cached messages up to its new read watermark.
+     *
+     * @param readUpToMillis timestamp of the newest message the user has read
+     */
+    public void markReadUpTo(String roomId, String userId, long readUpToMillis, LocalDateTime readAt) {
+        if (userId == null) {
+            return;
+        }
+        Message.MessageReader reader = Message.MessageReader.builder()
+                .userId(userId)
+                .readAt(readAt)
+                .build();
+        patch(roomId, message -> message.getTimestamp() <= readUpToMillis, message -> {
+            List<Message.MessageReader> readers = message.getReaders() != null ? message.getReaders() : List.of();
+            if (readers.stream().anyMatch(r -> userId.equals(r.getUserId()))) {
+                return message;
+            }
+            List<Message.MessageReader> updated = new ArrayList<>(readers.size() + 1);
+            updated.addAll(readers);
+            updated.add(reader);
+            return message.toBuilder().readers(updated).readCount(updated.size()).build();
+        });
+    }
+
+    public void evict(String roomId) {
+        cache.invalidate(roomId);
+    }
+
+    /**
+     * Drop rooms holding messages from a user whose name or profile image changed.
+     */
+    @EventListener
+    public void handleUserProfileUpdated(UserProfileUpdatedEvent event) {
+        String userId = event.getUserId();
+        cache.asMap().values().removeIf(room -> room.messages().stream()
+                .anyMatch(message -> message.getSender() != null && userId.equals(message.getSender().getId())));
+    }
+
+    private void patch(String roomId, Predicate<MessageResponse> target, UnaryOperator<MessageResponse> update) {
+        if (roomId == null) {
+            return;
+        }
+        cache.asMap().computeIfPresent(roomId, (id, current) -> {
+            boolean changed = false;
+            List<MessageResponse> messages = new ArrayList<>(current.messages().size());
+            for (MessageResponse message : current.messages()) {
+                MessageResponse patched = target.test(message) ? update.apply(message) : message;
+                changed |= patched != message;
+                messages.add(patched);
+            }
+            return changed ? current.withMessages(messages) : current;
+        });
+    }
+
+    /**
+     * Immutable snapshot of one room's ring.
+     *
+     * @param messages ascending by (timestamp, id), at most {@code capacity} entries
+     * @param seeded whether the ring has been merged with a store page and may serve reads
+     * @param olderInStore whether the store has messages older than the ring's oldest entry
+     * @param weight estimated retained bytes
+     */
+    record RoomMessages(List<MessageResponse> messages, boolean seeded, boolean olderInStore, int weight) {
+
+        static RoomMessages of(Collection<MessageResponse> messages, boolean seeded, boolean olderInStore, int capacity) {
+            List<MessageResponse> sorted = new ArrayList<>(messages);
+            sorted.sort(ORDER);
+            boolean trimmed = sorted.size() > capacity;
+            List<MessageResponse> kept = trimmed ? sorted.subList(sorted.size() - capacity, sorted.size()) : sorted;
+            return new RoomMessages(List.copyOf(kept), seeded, olderInStore || trimmed, estimateWeight(kept));
+        }
+
+        RoomMessages withMessages(List<MessageResponse> updated) {
+            return new RoomMessages(List.copyOf(updated), seeded, olderInStore, estimateWeight(updated));
+        }
+
+        private static int estimateWeight(List<MessageResponse> messages) {
+            long bytes = 64;
+            for (MessageResponse message : messages) {
+                bytes += 256;
+                if (message.getContent() != null) {
+                    bytes += 2L * message.getContent().length();
+                }
+                if (message.getReaders() != null) {
+                    bytes += 64L * message.getReaders().size();
+                }
+                if (message.getReactions() != null) {
+                    for (Set<String> users : message.getReactions().values()) {
+                        bytes += 64 + 48L * users.size();
+                    }
+                }
+            }
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+    }
+}
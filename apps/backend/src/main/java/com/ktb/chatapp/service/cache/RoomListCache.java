@@ -0,0 +1,161 @@
+package com.ktb.chatapp.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.dto.PageRequest;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.util.RoomNameTokenizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * In-process cache of rendered room list pages keyed by (page, size, sort, search).
+ * <p>
+ * Each snapshot carries a strong ETag derived from its serialized body, so identical pages
+ * rendered on different nodes share a tag and a conditional request answered from a cached
+ * snapshot does not touch MongoDB. Room created events, and room updated events (published only
+ * when a user newly joins through the REST API), bump a generation that is part of the key, so a
+ * render that was already in flight when the list changed can never be served afterwards.
+ * Repeated joins of a room the user is already in publish nothing, and socket joins, leaves and
+ * profile changes do not invalidate: like changes made on other nodes and recent message counts,
+ * they are picked up when entries expire after the short TTL. Failed renders are not cached.
+ * <p>
+ * Pages are rendered without a viewer so every user shares one snapshot. List items therefore
+ * report {@code isCreator} as false, which they already did while the list compared creator
+ * IDs against the principal's email.
+ */
+@Component
+public class RoomListCache {
+
+    static final String CACHE_NAME = "roomList";
+
+    private final RoomService roomService;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, RoomListSnapshot> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter notModifiedCounter;
+
+    public RoomListCache(
+            RoomService roomService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.cache.room-list.ttl:5s}") Duration ttl,
+            @Value("${chatapp.cache.room-list.max-size:1000}") long maxSize) {
+        this.roomService = roomService;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("chat.room_list.cache.hit_ratio", cache, c -> c.stats().hitRate())
+                .description("Share of room list requests answered from a cached snapshot")
+                .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder("chat.room_list.not_modified")
+                .description("Room list requests answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Find the rendered page for a request, rendering it through {@link RoomService} on a miss.
+     *
+     * @param pageRequest the page, size, sort and search of the list
+     * @return the rendered page and its ETag ({@code null} when the render failed)
+     */
+    public RoomListSnapshot get(PageRequest pageRequest) {
+        Key key = Key.of(generation.get(), pageRequest);
+        RoomListSnapshot snapshot = cache.get(key, this::render);
+        if (snapshot.etag() == null) {
+            cache.asMap().remove(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    public void recordNotModified() {
+        notModifiedCounter.increment();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void handleRoomCreated(RoomCreatedEvent event) {
+        invalidateAll();
+    }
+
+    @EventListener
+    public void handleRoomUpdated(RoomUpdatedEvent event) {
+        invalidateAll();
+    }
+
+    private RoomListSnapshot render(Key key) {
+        RoomsResponse response = roomService.getAllRoomsWithPagination(key.toPageRequest(), null);
+        if (!response.isSuccess()) {
+            return new RoomListSnapshot(response, null);
+        }
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new RoomListSnapshot(response, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize room list", e);
+        }
+    }
+
+    /**
+     * A rendered room list page.
+     *
+     * @param response the page as returned to clients
+     * @param etag     the quoted strong ETag of the serialized page, or {@code null} if rendering failed
+     */
+    public record RoomListSnapshot(RoomsResponse response, String etag) {
+    }
+
+    /**
+     * Requests that render the same page share a key: unsupported sort values fall back to the
+     * defaults {@link RoomService} applies and searches are compared after name normalization.
+     * Searches ignore the requested sort, so it is left out of their key. Pages are rendered from
+     * the key itself so two requests sharing a key always see the same page.
+     */
+    record Key(long generation, int page, int pageSize, String sortField, String sortOrder, String search) {
+
+        static Key of(long generation, PageRequest pageRequest) {
+            String search = RoomNameTokenizer.normalize(pageRequest.getSearch());
+            if (!search.isEmpty()) {
+                return new Key(generation, pageRequest.getPage(), pageRequest.getPageSize(), null, null, search);
+            }
+            return new Key(generation, pageRequest.getPage(), pageRequest.getPageSize(),
+                    pageRequest.isValidSortField() ? pageRequest.getSortField() : "createdAt",
+                    pageRequest.isValidSortOrder() ? pageRequest.getSortOrder() : "desc",
+                    null);
+        }
+
+        PageRequest toPageRequest() {
+            PageRequest pageRequest = new PageRequest();
+            pageRequest.setPage(page);
+            pageRequest.setPageSize(pageSize);
+            if (search != null) {
+                pageRequest.setSearch(search);
+            } else {
+                pageRequest.setSortField(sortField);
+                pageRequest.setSortOrder(sortOrder);
+            }
+            return pageRequest;
+        }
+    }
+}
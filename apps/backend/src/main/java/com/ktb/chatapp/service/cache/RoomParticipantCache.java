@@ -0,0 +1,87 @@
+package com.ktb.chatapp.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process cache of room participant ID sets used for membership checks.
+ * Entries expire after a fixed TTL and are evicted on participant changes.
+ * Missing rooms are not cached.
+ */
+@Component
+public class RoomParticipantCache {
+
+    static final String CACHE_NAME = "roomParticipants";
+
+    private final RoomRepository roomRepository;
+    private final Cache<String, Set<String>> cache;
+
+    public RoomParticipantCache(
+            RoomRepository roomRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.cache.room-participants.ttl:30s}") Duration ttl,
+            @Value("${chatapp.cache.room-participants.max-size:10000}") long maxSize) {
+        this.roomRepository = roomRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Find the participant IDs of a room, loading them from the repository on a miss.
+     *
+     * @param roomId the room ID
+     * @return Optional containing an immutable participant set if the room exists
+     */
+    public Optional<Set<String>> getParticipantIds(String roomId) {
+        if (roomId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(roomId, this::load));
+    }
+
+    /**
+     * Check room membership. A negative answer from the cache is re-checked against
+     * the repository once, so a user who joined on another node is never rejected
+     * because of a stale entry.
+     *
+     * @param roomId the room ID
+     * @param userId the user ID
+     * @return true if the room exists and the user is a participant
+     */
+    public boolean isParticipant(String roomId, String userId) {
+        if (getParticipantIds(roomId).map(ids -> ids.contains(userId)).orElse(false)) {
+            return true;
+        }
+        evict(roomId);
+        return getParticipantIds(roomId).map(ids -> ids.contains(userId)).orElse(false);
+    }
+
+    public void evict(String roomId) {
+        cache.invalidate(roomId);
+    }
+
+    @EventListener
+    public void handleRoomParticipantsChanged(RoomParticipantsChangedEvent event) {
+        evict(event.getRoomId());
+    }
+
+    private Set<String> load(String roomId) {
+        return roomRepository.findById(roomId)
+                .map(room -> Set.copyOf(room.getParticipantIds()))
+                .orElse(null);
+    }
+}
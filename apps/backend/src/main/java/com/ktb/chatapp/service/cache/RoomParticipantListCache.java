@@ -0,0 +1,124 @@
+package com.ktb.chatapp.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process cache of hydrated room participant lists (id, name, email, profileImage).
+ * A miss costs one room lookup (shared with {@link RoomParticipantCache}) and one projected
+ * {@code $in} query over the participant IDs. Participant changes on this node patch the cached
+ * list in place instead of reloading it; entries expire after a fixed TTL so changes made on
+ * other nodes are picked up. Missing rooms are not cached.
+ */
+@Component
+public class RoomParticipantListCache {
+
+    static final String CACHE_NAME = "roomParticipantList";
+
+    private static final Comparator<UserResponse> BY_NAME =
+            Comparator.comparing(UserResponse::getName, Comparator.nullsLast(String::compareTo))
+                    .thenComparing(UserResponse::getId);
+
+    private final RoomParticipantCache roomParticipantCache;
+    private final UserSummaryCache userSummaryCache;
+    private final UserRepository userRepository;
+    private final Cache<String, List<UserResponse>> cache;
+
+    public RoomParticipantListCache(
+            RoomParticipantCache roomParticipantCache,
+            UserSummaryCache userSummaryCache,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.cache.room-participant-list.ttl:30s}") Duration ttl,
+            @Value("${chatapp.cache.room-participant-list.max-participants:500000}") long maxParticipants) {
+        this.roomParticipantCache = roomParticipantCache;
+        this.userSummaryCache = userSummaryCache;
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxParticipants)
+                .weigher((String roomId, List<UserResponse> participants) -> participants.size() + 1)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Find the participants of a room, hydrating them with one projected query on a miss.
+     *
+     * @param roomId the room ID
+     * @return Optional containing an immutable participant list sorted by name if the room exists
+     */
+    public Optional<List<UserResponse>> getParticipants(String roomId) {
+        if (roomId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(roomId, this::load));
+    }
+
+    public void evict(String roomId) {
+        cache.invalidate(roomId);
+    }
+
+    @EventListener
+    public void handleRoomParticipantsChanged(RoomParticipantsChangedEvent event) {
+        if (event.getUserId() == null) {
+            evict(event.getRoomId());
+            return;
+        }
+        if (!event.isJoined()) {
+            cache.asMap().computeIfPresent(event.getRoomId(), (roomId, participants) ->
+                    participants.stream().filter(p -> !event.getUserId().equals(p.getId())).toList());
+            return;
+        }
+        Optional<UserResponse> joined = userSummaryCache.get(event.getUserId());
+        if (joined.isEmpty()) {
+            evict(event.getRoomId());
+            return;
+        }
+        cache.asMap().computeIfPresent(event.getRoomId(), (roomId, participants) -> {
+            if (participants.stream().anyMatch(p -> event.getUserId().equals(p.getId()))) {
+                return participants;
+            }
+            List<UserResponse> updated = new ArrayList<>(participants);
+            updated.add(joined.get());
+            updated.sort(BY_NAME);
+            return List.copyOf(updated);
+        });
+    }
+
+    @EventListener
+    public void handleUserProfileUpdated(UserProfileUpdatedEvent event) {
+        cache.asMap().values().removeIf(participants ->
+                participants.stream().anyMatch(p -> event.getUserId().equals(p.getId())));
+    }
+
+    private List<UserResponse> load(String roomId) {
+        Set<String> participantIds = roomParticipantCache.getParticipantIds(roomId).orElse(null);
+        if (participantIds == null) {
+            return null;
+        }
+        if (participantIds.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findSummariesByIdIn(participantIds).stream()
+                .map(UserResponse::from)
+                .sorted(BY_NAME)
+                .toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.ktb.chatapp.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process cache of user summaries (id, name, email, profileImage).
+ * Entries expire after a fixed TTL and are evicted on profile updates.
+ * Missing users are not cached.
+ */
+@Component
+public class UserSummaryCache {
+
+    static final String CACHE_NAME = "userSummary";
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserResponse> cache;
+
+    public UserSummaryCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.cache.user-summary.ttl:60s}") Duration ttl,
+            @Value("${chatapp.cache.user-summary.max-size:50000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Find a user summary, loading it from the repository on a miss.
+     *
+     * @param userId the user ID
+     * @return Optional containing the summary if the user exists
+     */
+    public Optional<UserResponse> get(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(userId, id ->
+                userRepository.findById(id).map(UserResponse::from).orElse(null)));
+    }
+
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    @EventListener
+    public void handleUserProfileUpdated(UserProfileUpdatedEvent event) {
+        evict(event.getUserId());
+    }
+}
@@ -0,0 +1,95 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.model.Message;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local spill file for messages that could not be written to MongoDB.
+ * Messages are stored as JSON lines and fsynced on every append.
+ * Replay works on a renamed snapshot, so new spills never mix with a file being replayed.
+ */
+class MessageSpillFile {
+
+    private static final String ACTIVE_FILE = "messages.spill.jsonl";
+    private static final String REPLAY_SUFFIX = ".replay.jsonl";
+
+    private final Path directory;
+    private final Path activeFile;
+    private final ObjectMapper objectMapper;
+
+    MessageSpillFile(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.activeFile = directory.resolve(ACTIVE_FILE);
+        this.objectMapper = objectMapper;
+    }
+
+    synchronized void append(List<Message> messages) throws IOException {
+        Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(activeFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            for (Message message : messages) {
+                byte[] json = objectMapper.writeValueAsBytes(message);
+                ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(false);
+        }
+    }
+
+    synchronized boolean hasPending() throws IOException {
+        return (Files.exists(activeFile) && Files.size(activeFile) > 0) || !listReplayFiles().isEmpty();
+    }
+
+    /**
+     * Move the active spill file aside and return every file that still needs to be replayed.
+     */
+    synchronized List<Path> takePending() throws IOException {
+        if (Files.exists(activeFile) && Files.size(activeFile) > 0) {
+            Path snapshot = directory.resolve("messages-" + System.currentTimeMillis() + REPLAY_SUFFIX);
+            Files.move(activeFile, snapshot, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return listReplayFiles();
+    }
+
+    List<Message> read(Path file) throws IOException {
+        List<Message> messages = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    messages.add(objectMapper.readValue(line, Message.class));
+                }
+            }
+        }
+        return messages;
+    }
+
+    void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    private List<Path> listReplayFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(REPLAY_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.model.Message;
+
+/**
+ * Persistence entry point for newly sent chat messages.
+ * Implementations are selected with {@code chatapp.message.write-mode}.
+ */
+public interface MessageWriter {
+
+    /**
+     * Persist a new message.
+     * The returned message always carries its ID, so it can be broadcast immediately
+     * even if the underlying write has not completed yet.
+     *
+     * @param message the message to persist
+     * @return the message with its ID assigned
+     */
+    Message write(Message message);
+}
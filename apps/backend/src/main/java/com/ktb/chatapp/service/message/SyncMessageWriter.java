@@ -0,0 +1,23 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default MessageWriter that saves each message before it is broadcast.
+ */
+@Component
+@ConditionalOnProperty(name = "chatapp.message.write-mode", havingValue = "sync", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SyncMessageWriter implements MessageWriter {
+
+    private final MessageRepository messageRepository;
+
+    @Override
+    public Message write(Message message) {
+        return messageRepository.save(message);
+    }
+}
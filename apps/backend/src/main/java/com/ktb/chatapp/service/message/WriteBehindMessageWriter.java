@@ -0,0 +1,347 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.model.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind MessageWriter.
+ * Assigns a client-side ObjectId, hands the message to a bounded queue and returns immediately.
+ * A single writer thread flushes the queue with unordered {@code insertMany} batches, either when
+ * {@code batch-size} messages are pending or {@code flush-interval} has passed since the first one.
+ * <p>
+ * Failed batches are retried with exponential backoff. Once retries are exhausted they are spilled to
+ * a local file, which is replayed after MongoDB accepts writes again. Duplicate key errors are treated
+ * as success, so replays and retries are idempotent.
+ * <p>
+ * Messages are visible to history queries only after their batch is flushed.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chatapp.message.write-mode", havingValue = "write-behind")
+public class WriteBehindMessageWriter implements MessageWriter {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    /**
+     * What to do when the queue is still full after {@code offer-timeout}.
+     */
+    public enum OverflowPolicy {
+        /** Append the message to the spill file. */
+        SPILL,
+        /** Insert the message synchronously on the calling thread. */
+        CALLER_RUNS
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final MessageSpillFile spillFile;
+    private final BlockingQueue<Message> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration offerTimeout;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration replayInterval;
+    private final Duration shutdownTimeout;
+
+    private final Counter persistedCounter;
+    private final Counter retryCounter;
+    private final Counter spilledCounter;
+    private final Counter overflowCounter;
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile boolean spillPending;
+    private Thread writerThread;
+    private long lastReplayAttemptNanos;
+
+    public WriteBehindMessageWriter(
+            MongoTemplate mongoTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.message.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chatapp.message.write-behind.batch-size:200}") int batchSize,
+            @Value("${chatapp.message.write-behind.flush-interval:50ms}") Duration flushInterval,
+            @Value("${chatapp.message.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+            @Value("${chatapp.message.write-behind.overflow-policy:SPILL}") OverflowPolicy overflowPolicy,
+            @Value("${chatapp.message.write-behind.max-attempts:3}") int maxAttempts,
+            @Value("${chatapp.message.write-behind.retry-backoff:200ms}") Duration retryBackoff,
+            @Value("${chatapp.message.write-behind.replay-interval:10s}") Duration replayInterval,
+            @Value("${chatapp.message.write-behind.shutdown-timeout:10s}") Duration shutdownTimeout,
+            @Value("${chatapp.message.write-behind.spill-dir:./data/message-spill}") Path spillDir) {
+        this.mongoTemplate = mongoTemplate;
+        this.spillFile = new MessageSpillFile(spillDir, objectMapper);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.offerTimeout = offerTimeout;
+        this.overflowPolicy = overflowPolicy;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.replayInterval = replayInterval;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("chat.messages.write_behind.queue.size", queue, BlockingQueue::size)
+                .description("Messages waiting to be flushed to MongoDB")
+                .register(meterRegistry);
+        this.persistedCounter = Counter.builder("chat.messages.write_behind.persisted")
+                .description("Messages flushed to MongoDB by the write-behind writer")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("chat.messages.write_behind.retries")
+                .description("Messages re-submitted after a failed batch insert")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("chat.messages.write_behind.spilled")
+                .description("Messages written to the local spill file")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.messages.write_behind.overflow")
+                .description("Messages rejected by the full write-behind queue")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.messages.write_behind.dropped")
+                .description("Messages lost because they could not be spilled")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.messages.write_behind.flush.time")
+                .description("Batch insert latency of the write-behind writer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            spillPending = spillFile.hasPending();
+        } catch (IOException e) {
+            log.warn("Could not inspect message spill directory: {}", e.getMessage());
+        }
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("message-write-behind")
+                .daemon(true)
+                .start(this::runLoop);
+        log.info("Write-behind message writer started - batchSize: {}, flushInterval: {}, overflowPolicy: {}",
+                batchSize, flushInterval, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+        try {
+            writerThread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Message> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("Write-behind writer stopped with {} pending messages - spilling to disk", remaining.size());
+            spill(remaining);
+        }
+    }
+
+    @Override
+    public Message write(Message message) {
+        // ID와 timestamp를 미리 채워야 저장 전에도 브로드캐스트할 수 있다
+        if (message.getId() == null) {
+            message.setId(new ObjectId().toHexString());
+        }
+        if (message.getTimestamp() == null) {
+            message.setTimestamp(LocalDateTime.now());
+        }
+
+        boolean accepted;
+        try {
+            accepted = running && queue.offer(message, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            overflowCounter.increment();
+            switch (overflowPolicy) {
+                case CALLER_RUNS -> {
+                    mongoTemplate.insert(message);
+                    persistedCounter.increment();
+                }
+                case SPILL -> spill(List.of(message));
+            }
+        }
+        return message;
+    }
+
+    private void runLoop() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+                if (batch.isEmpty()) {
+                    replaySpillIfDue();
+                    continue;
+                }
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in write-behind writer - spilling {} messages", batch.size(), e);
+                spill(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Block until the first message arrives, then keep collecting until the batch is full
+     * or {@code flush-interval} has elapsed since that first message.
+     */
+    private void collectBatch(List<Message> batch) throws InterruptedException {
+        Message first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Message next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Insert a batch, retrying the failed part with exponential backoff.
+     * Whatever is still failing after {@code max-attempts} is spilled to disk.
+     */
+    void flush(List<Message> batch) throws InterruptedException {
+        List<Message> pending = batch;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            List<Message> current = pending;
+            pending = flushTimer.record(() -> insertBatch(current));
+            if (pending.isEmpty()) {
+                replaySpillIfDue();
+                return;
+            }
+            if (attempt < maxAttempts) {
+                retryCounter.increment(pending.size());
+                Thread.sleep(retryBackoff.toMillis() << (attempt - 1));
+            }
+        }
+        log.warn("Giving up on {} messages after {} attempts - spilling to disk", pending.size(), maxAttempts);
+        spill(pending);
+    }
+
+    /**
+     * @return messages that were not persisted and should be retried
+     */
+    private List<Message> insertBatch(List<Message> batch) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class)
+                    .insert(batch)
+                    .execute();
+            persistedCounter.increment(batch.size());
+            return List.of();
+        } catch (BulkOperationException e) {
+            // 중복 키는 이전 시도나 재처리에서 이미 저장된 메시지이므로 성공으로 본다
+            Set<Integer> failedIndexes = e.getErrors().stream()
+                    .filter(error -> error.getCode() != DUPLICATE_KEY)
+                    .map(error -> error.getIndex())
+                    .collect(Collectors.toSet());
+            persistedCounter.increment(batch.size() - failedIndexes.size());
+            if (!failedIndexes.isEmpty()) {
+                log.warn("Batch insert partially failed - {} of {} messages", failedIndexes.size(), batch.size());
+            }
+            return IntStream.range(0, batch.size())
+                    .filter(failedIndexes::contains)
+                    .mapToObj(batch::get)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.warn("Batch insert of {} messages failed: {}", batch.size(), e.getMessage());
+            return batch;
+        }
+    }
+
+    /**
+     * Replay spilled messages, at most once per {@code replay-interval}.
+     * A file is deleted only after every message in it has been inserted.
+     */
+    private void replaySpillIfDue() {
+        if (!spillPending) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastReplayAttemptNanos != 0 && now - lastReplayAttemptNanos < replayInterval.toNanos()) {
+            return;
+        }
+        lastReplayAttemptNanos = now;
+
+        try {
+            for (Path file : spillFile.takePending()) {
+                List<Message> messages = spillFile.read(file);
+                for (int from = 0; from < messages.size(); from += batchSize) {
+                    List<Message> chunk = messages.subList(from, Math.min(from + batchSize, messages.size()));
+                    if (!flushTimer.record(() -> insertBatch(chunk)).isEmpty()) {
+                        log.warn("Spill replay of {} interrupted - will retry later", file.getFileName());
+                        return;
+                    }
+                }
+                spillFile.delete(file);
+                log.info("Replayed {} spilled messages from {}", messages.size(), file.getFileName());
+            }
+            spillPending = spillFile.hasPending();
+        } catch (IOException e) {
+            log.error("Failed to replay spilled messages", e);
+        }
+    }
+
+    private void spill(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            spillFile.append(messages);
+            spilledCounter.increment(messages.size());
+            spillPending = true;
+        } catch (IOException e) {
+            droppedCounter.increment(messages.size());
+            log.error("Failed to spill {} messages - ids: {}", messages.size(),
+                    messages.stream().map(Message::getId).collect(Collectors.joining(",")), e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process implementation of RateLimitStore using a sliding window counter.
+ * <p>
+ * Each client keeps the counts of the current and previous fixed windows in an immutable
+ * {@link Window} that is replaced with compare-and-set, so checks never take a lock.
+ * The request estimate is {@code previous * (1 - elapsed / window) + current}.
+ * <p>
+ * Idle clients are removed lazily: at most once per {@code eviction-interval}, the calling
+ * thread drops entries whose both windows have passed. Limits are per node, which matches the
+ * hostname-prefixed client IDs used by RateLimitService.
+ */
+@Component
+@ConditionalOnProperty(name = "chatapp.rate-limit.store", havingValue = "local", matchIfMissing = true)
+public class RateLimitLocalStore implements RateLimitStore {
+
+    private final Map<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long evictionIntervalMillis;
+    private final AtomicLong lastEvictionMillis;
+
+    @Autowired
+    public RateLimitLocalStore(
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.rate-limit.local.eviction-interval:60s}") Duration evictionInterval) {
+        this(meterRegistry, evictionInterval, Clock.systemUTC());
+    }
+
+    RateLimitLocalStore(MeterRegistry meterRegistry, Duration evictionInterval, Clock clock) {
+        this.clock = clock;
+        this.evictionIntervalMillis = evictionInterval.toMillis();
+        this.lastEvictionMillis = new AtomicLong(clock.millis());
+        Gauge.builder("ratelimit.local.clients", windows, Map::size)
+                .description("Clients tracked by the in-memory rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public RateLimitCheckResult checkAndIncrement(String clientId, int maxRequests, Duration window) {
+        long now = clock.millis();
+        long windowMillis = Math.max(1000L, window.toMillis());
+        long windowSeconds = windowMillis / 1000;
+        evictIdleIfDue(now);
+
+        while (true) {
+            AtomicReference<Window> ref = windows.computeIfAbsent(clientId,
+                    key -> new AtomicReference<>(Window.start(now, windowMillis)));
+            Window current = ref.get();
+            Window rolled = current.rollTo(now, windowMillis);
+            double estimated = rolled.estimate(now);
+            long windowEnd = rolled.startMillis() + windowMillis;
+            long resetEpochSeconds = ceilSeconds(windowEnd);
+
+            if (estimated + 1 > maxRequests) {
+                ref.compareAndSet(current, rolled);
+                long retryAfterMillis = rolled.millisUntilAllowed(now, maxRequests);
+                long retryAfterSeconds = Math.min(windowSeconds, Math.max(1L, ceilSeconds(retryAfterMillis)));
+                return RateLimitCheckResult.rejected(maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+            }
+
+            // 제거된 엔트리에 기록하지 않도록 CAS 이후 맵에 남아 있는지 확인
+            if (ref.compareAndSet(current, rolled.increment()) && windows.get(clientId) == ref) {
+                int remaining = Math.max(0, maxRequests - (int) Math.ceil(estimated + 1));
+                long ttlSeconds = Math.max(1L, ceilSeconds(windowEnd - now));
+                return RateLimitCheckResult.allowed(maxRequests, remaining, windowSeconds, resetEpochSeconds, ttlSeconds);
+            }
+        }
+    }
+
+    private void evictIdleIfDue(long now) {
+        long last = lastEvictionMillis.get();
+        if (now - last < evictionIntervalMillis || !lastEvictionMillis.compareAndSet(last, now)) {
+            return;
+        }
+        windows.forEach((clientId, ref) -> {
+            if (ref.get().isIdle(now)) {
+                windows.remove(clientId, ref);
+            }
+        });
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    private static long ceilSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+
+    /**
+     * Counts of the fixed window starting at {@code startMillis} and the one before it.
+     */
+    record Window(long startMillis, long lengthMillis, int previousCount, int currentCount) {
+
+        static Window start(long now, long lengthMillis) {
+            return new Window(now - Math.floorMod(now, lengthMillis), lengthMillis, 0, 0);
+        }
+
+        Window rollTo(long now, long length) {
+            if (length != lengthMillis) {
+                return start(now, length);
+            }
+            long elapsed = now - startMillis;
+            if (elapsed < lengthMillis) {
+                return this;
+            }
+            if (elapsed < 2 * lengthMillis) {
+                return new Window(startMillis + lengthMillis, lengthMillis, currentCount, 0);
+            }
+            return start(now, lengthMillis);
+        }
+
+        double estimate(long now) {
+            double previousWeight = 1.0 - (double) (now - startMillis) / lengthMillis;
+            return previousCount * previousWeight + currentCount;
+        }
+
+        Window increment() {
+            return new Window(startMillis, lengthMillis, previousCount, currentCount + 1);
+        }
+
+        boolean isIdle(long now) {
+            return now - startMillis >= 2 * lengthMillis;
+        }
+
+        /**
+         * Time until one more request fits under {@code maxRequests}.
+         */
+        long millisUntilAllowed(long now, int maxRequests) {
+            long elapsed = now - startMillis;
+            if (currentCount + 1 > maxRequests) {
+                // 현재 창의 카운트가 다음 창의 이전 카운트가 되어 줄어들 때까지 대기
+                double fraction = currentCount == 0 ? 0 : 1.0 - (double) (maxRequests - 1) / currentCount;
+                return (lengthMillis - elapsed) + (long) Math.ceil(lengthMillis * Math.max(0, fraction));
+            }
+            double fraction = 1.0 - (double) (maxRequests - 1 - currentCount) / previousCount;
+            return Math.max(0, (long) Math.ceil(lengthMillis * fraction) - elapsed);
+        }
+    }
+}
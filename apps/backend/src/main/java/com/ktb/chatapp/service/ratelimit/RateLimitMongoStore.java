@@ -2,27 +2,63 @@ package com.ktb.chatapp.service.ratelimit;
 
 import com.ktb.chatapp.model.RateLimit;
 import com.ktb.chatapp.repository.RateLimitRepository;
-import java.util.Optional;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * MongoDB implementation of RateLimitStore.
- * Uses RateLimitRepository for persistence.
+ * Fixed window counter stored in the rate_limits collection and expired by its TTL index.
+ * The find and save are separate round-trips, so concurrent requests can lose increments.
  */
 @Component
+@ConditionalOnProperty(name = "chatapp.rate-limit.store", havingValue = "mongo")
 @RequiredArgsConstructor
 public class RateLimitMongoStore implements RateLimitStore {
     
     private final RateLimitRepository rateLimitRepository;
     
     @Override
-    public Optional<RateLimit> findByClientId(String clientId) {
-        return rateLimitRepository.findByClientId(clientId);
-    }
-    
-    @Override
-    public RateLimit save(RateLimit rateLimit) {
-        return rateLimitRepository.save(rateLimit);
+    @Transactional
+    public RateLimitCheckResult checkAndIncrement(String clientId, int maxRequests, Duration window) {
+        long windowSeconds = Math.max(1L, window.getSeconds());
+        Instant now = Instant.now();
+        long nowEpochSeconds = now.getEpochSecond();
+        Instant expiresAt = now.plus(window);
+
+        RateLimit rateLimit = rateLimitRepository.findByClientId(clientId).orElse(null);
+        int currentCount = rateLimit != null ? rateLimit.getCount() : 0;
+
+        if (rateLimit != null && currentCount >= maxRequests) {
+            long retryAfterSeconds = Math.max(1L,
+                rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
+            long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
+            return RateLimitCheckResult.rejected(
+                    maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+        }
+
+        // Create or update rate limit
+        if (rateLimit == null) {
+            rateLimit = RateLimit.builder()
+                    .clientId(clientId)
+                    .count(1)
+                    .expiresAt(expiresAt)
+                    .build();
+        } else {
+            rateLimit.setCount(currentCount + 1);
+        }
+        rateLimitRepository.save(rateLimit);
+
+        int newCount = currentCount + 1;
+        int remaining = Math.max(0, maxRequests - newCount);
+        long ttlSeconds = Math.max(1L, rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
+        long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
+
+        return RateLimitCheckResult.allowed(
+                maxRequests, remaining, windowSeconds, resetEpochSeconds, ttlSeconds);
     }
 }
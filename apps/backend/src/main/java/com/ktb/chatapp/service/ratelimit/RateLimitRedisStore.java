@@ -0,0 +1,216 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis implementation of RateLimitStore with cluster-wide limits.
+ * <p>
+ * Each client has a fixed window counter at {@code chat:ratelimit:{clientId}}. A Lua script
+ * reads the counter, grants up to the requested number of permits, increments it and sets
+ * the window TTL in one atomic call.
+ * <p>
+ * With {@code lease-size > 1}, a node leases that many permits at once and serves them
+ * locally until they run out or the window ends. An exhausted window is also remembered
+ * locally, so rejected traffic does not reach Redis either. Unused leased permits are lost
+ * for the rest of the window, so each node may under-admit by up to {@code lease-size - 1}.
+ */
+@Component
+@ConditionalOnProperty(name = "chatapp.rate-limit.store", havingValue = "redis")
+public class RateLimitRedisStore implements RateLimitStore {
+
+    static final String KEY_PREFIX = "chat:ratelimit:";
+
+    // KEYS[1]=counter, ARGV[1]=limit, ARGV[2]=window(ms), ARGV[3]=requested permits
+    // returns {granted, used, ttl(ms)}
+    static final String ACQUIRE_SCRIPT = """
+            local limit = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local granted = math.max(0, math.min(requested, limit - used))
+            if granted > 0 then
+                used = redis.call('INCRBY', KEYS[1], granted)
+            end
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl < 0 then
+                if used > 0 then
+                    redis.call('PEXPIRE', KEYS[1], window)
+                end
+                ttl = window
+            end
+            return {granted, used, ttl}
+            """;
+
+    private final RedissonClient redissonClient;
+    private final int leaseSize;
+    private final Clock clock;
+    private final Cache<String, Lease> leases;
+    private final Counter remoteCalls;
+    private final Counter localHits;
+    private volatile String scriptSha;
+
+    @Autowired
+    public RateLimitRedisStore(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.rate-limit.redis.lease-size:0}") int leaseSize,
+            @Value("${chatapp.rate-limit.redis.lease-cache-size:100000}") long leaseCacheSize) {
+        this(redissonClient, meterRegistry, leaseSize, leaseCacheSize, Clock.systemUTC());
+    }
+
+    RateLimitRedisStore(RedissonClient redissonClient, MeterRegistry meterRegistry,
+                        int leaseSize, long leaseCacheSize, Clock clock) {
+        this.redissonClient = redissonClient;
+        this.leaseSize = Math.max(1, leaseSize);
+        this.clock = clock;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(leaseCacheSize)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+        this.remoteCalls = Counter.builder("ratelimit.redis.calls")
+                .description("Rate limit checks that called Redis")
+                .register(meterRegistry);
+        this.localHits = Counter.builder("ratelimit.redis.local")
+                .description("Rate limit checks answered from a locally leased window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Limits are shared by every node, so client IDs must not be host-prefixed.
+     */
+    @Override
+    public boolean sharedAcrossNodes() {
+        return true;
+    }
+
+    @Override
+    public RateLimitCheckResult checkAndIncrement(String clientId, int maxRequests, Duration window) {
+        long windowMillis = Math.max(1000L, window.toMillis());
+        long windowSeconds = windowMillis / 1000;
+        long now = clock.millis();
+
+        if (leaseSize > 1) {
+            Lease lease = leases.getIfPresent(clientId);
+            if (lease != null && lease.matches(maxRequests, windowMillis) && now < lease.windowEndMillis) {
+                if (lease.tryTake()) {
+                    localHits.increment();
+                    return lease.allowed(windowSeconds, now);
+                }
+                if (lease.exhausted) {
+                    localHits.increment();
+                    return lease.rejected(windowSeconds, now);
+                }
+            }
+        }
+
+        int requested = Math.min(leaseSize, maxRequests);
+        List<Object> reply = acquire(clientId, maxRequests, windowMillis, requested);
+        long granted = (Long) reply.get(0);
+        long used = (Long) reply.get(1);
+        long ttlMillis = (Long) reply.get(2);
+
+        Lease lease = new Lease(maxRequests, windowMillis, now + ttlMillis, used, (int) granted);
+        if (leaseSize > 1) {
+            leases.put(clientId, lease);
+        }
+        if (granted == 0) {
+            return lease.rejected(windowSeconds, now);
+        }
+        lease.tryTake();
+        return lease.allowed(windowSeconds, now);
+    }
+
+    private List<Object> acquire(String clientId, int maxRequests, long windowMillis, int requested) {
+        remoteCalls.increment();
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        List<Object> keys = List.of(KEY_PREFIX + clientId);
+        Object[] args = {String.valueOf(maxRequests), String.valueOf(windowMillis), String.valueOf(requested)};
+
+        String sha = scriptSha;
+        if (sha == null) {
+            sha = scriptSha = script.scriptLoad(ACQUIRE_SCRIPT);
+        }
+        try {
+            return script.evalSha(RScript.Mode.READ_WRITE, sha, RScript.ReturnType.MULTI, keys, args);
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("NOSCRIPT")) {
+                throw e;
+            }
+            // Redis 재시작 등으로 스크립트 캐시가 비워진 경우
+            scriptSha = script.scriptLoad(ACQUIRE_SCRIPT);
+            return script.evalSha(RScript.Mode.READ_WRITE, scriptSha, RScript.ReturnType.MULTI, keys, args);
+        }
+    }
+
+    /**
+     * Permits leased from Redis for the current window.
+     */
+    private static final class Lease {
+        private final int limit;
+        private final long windowMillis;
+        private final long windowEndMillis;
+        private final long usedAtLease;
+        private final AtomicInteger tokens;
+        private final boolean exhausted;
+
+        Lease(int limit, long windowMillis, long windowEndMillis, long usedAtLease, int granted) {
+            this.limit = limit;
+            this.windowMillis = windowMillis;
+            this.windowEndMillis = windowEndMillis;
+            this.usedAtLease = usedAtLease;
+            this.tokens = new AtomicInteger(granted);
+            this.exhausted = usedAtLease >= limit;
+        }
+
+        boolean matches(int maxRequests, long window) {
+            return limit == maxRequests && windowMillis == window;
+        }
+
+        boolean tryTake() {
+            int current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        RateLimitCheckResult allowed(long windowSeconds, long now) {
+            // 임대했지만 아직 쓰지 않은 허용량은 사용량에서 제외
+            long used = usedAtLease - Math.max(0, tokens.get());
+            int remaining = (int) Math.max(0, limit - used);
+            return RateLimitCheckResult.allowed(limit, remaining, windowSeconds,
+                    resetEpochSeconds(), secondsUntilReset(now));
+        }
+
+        RateLimitCheckResult rejected(long windowSeconds, long now) {
+            return RateLimitCheckResult.rejected(limit, windowSeconds, resetEpochSeconds(), secondsUntilReset(now));
+        }
+
+        private long resetEpochSeconds() {
+            return (windowEndMillis + 999) / 1000;
+        }
+
+        private long secondsUntilReset(long now) {
+            return Math.max(1L, (windowEndMillis - now + 999) / 1000);
+        }
+    }
+}
@@ -1,27 +1,32 @@
 package com.ktb.chatapp.service.ratelimit;
 
-import com.ktb.chatapp.model.RateLimit;
-import java.util.Optional;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
 
 /**
  * Data store interface for rate limit storage.
- * Provides operations for storing and retrieving rate limit data.
+ * Counts requests per client and decides whether the next one is allowed.
  */
 public interface RateLimitStore {
     
     /**
-     * Find rate limit by client ID
+     * Count one request for the client and report the resulting limit state.
+     * A rejected request is not counted.
      *
      * @param clientId the client identifier
-     * @return Optional containing the RateLimit if found, empty otherwise
+     * @param maxRequests maximum requests allowed per window
+     * @param window the rate limit window
+     * @return the check result including the values for the X-RateLimit headers
      */
-    Optional<RateLimit> findByClientId(String clientId);
+    RateLimitCheckResult checkAndIncrement(String clientId, int maxRequests, Duration window);
     
     /**
-     * Save or update rate limit
+     * Whether counts are shared by every node.
+     * Node-local stores get host-prefixed client IDs from RateLimitService.
      *
-     * @param rateLimit the rate limit to save
-     * @return the saved rate limit
+     * @return true if the limit is enforced cluster-wide
      */
-    RateLimit save(RateLimit rateLimit);
+    default boolean sharedAcrossNodes() {
+        return false;
+    }
 }
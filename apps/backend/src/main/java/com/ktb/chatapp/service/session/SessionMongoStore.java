@@ -2,8 +2,10 @@ package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
 import com.ktb.chatapp.repository.SessionRepository;
+import java.time.Instant;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Component;
  * Uses SessionRepository for persistence.
  */
 @Component
+@ConditionalOnProperty(name = "chatapp.session.store", havingValue = "mongo", matchIfMissing = true)
 @RequiredArgsConstructor
 public class SessionMongoStore implements SessionStore {
     
@@ -26,6 +29,11 @@ public class SessionMongoStore implements SessionStore {
         return sessionRepository.save(session);
     }
     
+    @Override
+    public void touch(String userId, String sessionId, long lastActivity, Instant expiresAt) {
+        sessionRepository.touch(userId, sessionId, lastActivity, expiresAt);
+    }
+    
     @Override
     public void delete(String userId, String sessionId) {
         Session session = sessionRepository.findByUserId(userId).orElse(null);
@@ -0,0 +1,171 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis implementation of SessionStore.
+ * Each user's session is a hash at {@code chat:session:{userId}} whose key expires natively
+ * at {@code expiresAt}, so expiry does not depend on MongoDB's TTL monitor.
+ * Activity refresh and conditional delete are single Lua round-trips.
+ */
+@Component
+@ConditionalOnProperty(name = "chatapp.session.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class SessionRedisStore implements SessionStore {
+
+    static final String KEY_PREFIX = "chat:session:";
+
+    private static final String USER_ID = "userId";
+    private static final String SESSION_ID = "sessionId";
+    private static final String CREATED_AT = "createdAt";
+    private static final String LAST_ACTIVITY = "lastActivity";
+    private static final String EXPIRES_AT = "expiresAt";
+    private static final String USER_AGENT = "userAgent";
+    private static final String IP_ADDRESS = "ipAddress";
+    private static final String DEVICE_INFO = "deviceInfo";
+
+    // 세션 ID가 일치할 때만 활동 시간을 갱신하고 만료 시각을 연장
+    private static final String TOUCH_SCRIPT = """
+            if redis.call('HGET', KEYS[1], 'sessionId') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'lastActivity', ARGV[2], 'expiresAt', ARGV[3])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+            return 1
+            """;
+
+    // 세션 ID가 일치할 때만 삭제
+    private static final String DELETE_SCRIPT = """
+            if redis.call('HGET', KEYS[1], 'sessionId') ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """;
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Map<String, String> fields = sessionMap(userId).readAllMap();
+        if (fields.isEmpty() || fields.get(SESSION_ID) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toSession(userId, fields));
+    }
+
+    /**
+     * Replaces the user's session hash and sets its expiry in one MULTI/EXEC.
+     */
+    @Override
+    public Session save(Session session) {
+        Instant expiresAt = session.getExpiresAt();
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        RMapAsync<String, String> map = batch.getMap(key(session.getUserId()), StringCodec.INSTANCE);
+        map.deleteAsync();
+        map.putAllAsync(toFields(session));
+        if (expiresAt != null) {
+            map.expireAsync(expiresAt);
+        }
+        batch.execute();
+        return session;
+    }
+
+    @Override
+    public void touch(String userId, String sessionId, long lastActivity, Instant expiresAt) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                TOUCH_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(key(userId)),
+                sessionId,
+                String.valueOf(lastActivity),
+                String.valueOf(expiresAt.toEpochMilli()));
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                DELETE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(key(userId)),
+                sessionId);
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        sessionMap(userId).delete();
+    }
+
+    private RMap<String, String> sessionMap(String userId) {
+        return redissonClient.getMap(key(userId), StringCodec.INSTANCE);
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static Map<String, String> toFields(Session session) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(USER_ID, session.getUserId());
+        fields.put(SESSION_ID, session.getSessionId());
+        fields.put(CREATED_AT, String.valueOf(session.getCreatedAt()));
+        fields.put(LAST_ACTIVITY, String.valueOf(session.getLastActivity()));
+        if (session.getExpiresAt() != null) {
+            fields.put(EXPIRES_AT, String.valueOf(session.getExpiresAt().toEpochMilli()));
+        }
+        SessionMetadata metadata = session.getMetadata();
+        if (metadata != null) {
+            putIfNotNull(fields, USER_AGENT, metadata.userAgent());
+            putIfNotNull(fields, IP_ADDRESS, metadata.ipAddress());
+            putIfNotNull(fields, DEVICE_INFO, metadata.deviceInfo());
+        }
+        return fields;
+    }
+
+    private static Session toSession(String userId, Map<String, String> fields) {
+        boolean hasMetadata = fields.containsKey(USER_AGENT)
+                || fields.containsKey(IP_ADDRESS)
+                || fields.containsKey(DEVICE_INFO);
+        return Session.builder()
+                .id(key(userId))
+                .userId(userId)
+                .sessionId(fields.get(SESSION_ID))
+                .createdAt(parseLong(fields.get(CREATED_AT)))
+                .lastActivity(parseLong(fields.get(LAST_ACTIVITY)))
+                .expiresAt(fields.containsKey(EXPIRES_AT)
+                        ? Instant.ofEpochMilli(parseLong(fields.get(EXPIRES_AT)))
+                        : null)
+                .metadata(hasMetadata
+                        ? new SessionMetadata(fields.get(USER_AGENT), fields.get(IP_ADDRESS), fields.get(DEVICE_INFO))
+                        : null)
+                .build();
+    }
+
+    private static void putIfNotNull(Map<String, String> fields, String field, String value) {
+        if (value != null) {
+            fields.put(field, value);
+        }
+    }
+
+    private static long parseLong(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -25,6 +26,16 @@ public interface SessionStore {
      */
     Session save(Session session);
     
+    /**
+     * Update only the activity fields of an existing session
+     *
+     * @param userId the user identifier
+     * @param sessionId the session identifier
+     * @param lastActivity last activity time in epoch millis
+     * @param expiresAt new expiry time
+     */
+    void touch(String userId, String sessionId, long lastActivity, Instant expiresAt);
+    
     /**
      * Delete all sessions for a user
      *
@@ -0,0 +1,125 @@
+package com.ktb.chatapp.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionData;
+import com.ktb.chatapp.service.SessionMetadata;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived in-process cache of validated sessions, keyed by user ID.
+ * <p>
+ * Activity is recorded in memory on every request and written back to the SessionStore
+ * only when the persisted lastActivity is older than {@code activity-write-threshold}.
+ * Sessions removed on another node stay valid here for at most {@code ttl}.
+ */
+@Component
+public class ValidatedSessionCache {
+
+    static final String CACHE_NAME = "validatedSessions";
+
+    private final Cache<String, CachedSession> cache;
+    private final long activityWriteThresholdMillis;
+    private final Counter activityWrites;
+    private final Counter activityCoalesced;
+
+    public ValidatedSessionCache(
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.session.cache.ttl:10s}") Duration ttl,
+            @Value("${chatapp.session.cache.max-size:100000}") long maxSize,
+            @Value("${chatapp.session.activity-write-threshold:60s}") Duration activityWriteThreshold) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.activityWriteThresholdMillis = activityWriteThreshold.toMillis();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.activityWrites = Counter.builder("session.activity.writes")
+                .description("Session lastActivity updates written to the session store")
+                .register(meterRegistry);
+        this.activityCoalesced = Counter.builder("session.activity.coalesced")
+                .description("Session lastActivity updates kept in memory only")
+                .register(meterRegistry);
+    }
+
+    public Optional<CachedSession> get(String userId) {
+        return Optional.ofNullable(cache.getIfPresent(userId));
+    }
+
+    public CachedSession put(Session session) {
+        CachedSession cached = new CachedSession(session);
+        cache.put(session.getUserId(), cached);
+        return cached;
+    }
+
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Record activity and decide whether it has to be written to the store.
+     * Only one caller per threshold window gets {@code true}.
+     *
+     * @return true if the caller should persist {@code now} as lastActivity
+     */
+    public boolean recordActivity(CachedSession session, long now) {
+        session.lastActivity.accumulateAndGet(now, Math::max);
+        while (true) {
+            long persisted = session.persistedLastActivity.get();
+            if (now - persisted < activityWriteThresholdMillis) {
+                activityCoalesced.increment();
+                return false;
+            }
+            if (session.persistedLastActivity.compareAndSet(persisted, now)) {
+                activityWrites.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Snapshot of a validated session. lastActivity may be ahead of the stored value.
+     */
+    public static final class CachedSession {
+
+        @Getter
+        private final String sessionId;
+        private final long createdAt;
+        private final SessionMetadata metadata;
+        private final AtomicLong lastActivity;
+        private final AtomicLong persistedLastActivity;
+
+        private CachedSession(Session session) {
+            this.sessionId = session.getSessionId();
+            this.createdAt = session.getCreatedAt();
+            this.metadata = session.getMetadata();
+            this.lastActivity = new AtomicLong(session.getLastActivity());
+            this.persistedLastActivity = new AtomicLong(session.getLastActivity());
+        }
+
+        public long getLastActivity() {
+            return lastActivity.get();
+        }
+
+        public SessionData toSessionData(String userId) {
+            return SessionData.builder()
+                    .userId(userId)
+                    .sessionId(sessionId)
+                    .createdAt(createdAt)
+                    .lastActivity(lastActivity.get())
+                    .metadata(metadata)
+                    .build();
+        }
+    }
+}
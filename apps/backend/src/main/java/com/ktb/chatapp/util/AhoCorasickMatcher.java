@@ -0,0 +1,258 @@
+package com.ktb.chatapp.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Aho-Corasick automaton over a case-folded dictionary.
+ * <p>
+ * Trie transitions live in a single open-addressing table keyed by {@code (state, char)},
+ * and failure links and match flags are plain int/boolean arrays. Matching is one pass over
+ * the input and allocates nothing. Characters are folded with {@link Character#toLowerCase(char)}
+ * on both the dictionary and the input.
+ * <p>
+ * Instances are immutable and safe to share between threads.
+ */
+final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+    private static final long EMPTY = -1L;
+
+    private final long[] keys;
+    private final int[] targets;
+    private final int mask;
+    private final int[] fail;
+    private final boolean[] terminal;
+    private final int patternCount;
+
+    private AhoCorasickMatcher(long[] keys, int[] targets, int[] fail, boolean[] terminal, int patternCount) {
+        this.keys = keys;
+        this.targets = targets;
+        this.mask = keys.length - 1;
+        this.fail = fail;
+        this.terminal = terminal;
+        this.patternCount = patternCount;
+    }
+
+    /**
+     * Build an automaton from the given words. Null and empty words are ignored.
+     */
+    static AhoCorasickMatcher compile(Collection<String> words) {
+        Builder builder = new Builder(words.stream().mapToInt(w -> w == null ? 0 : w.length()).sum() + 1);
+        int patterns = 0;
+        for (String word : words) {
+            if (word != null && !word.isEmpty()) {
+                builder.insert(word);
+                patterns++;
+            }
+        }
+        return builder.build(patterns);
+    }
+
+    /**
+     * @return true if any dictionary word occurs in {@code text}
+     */
+    boolean matches(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = transition(state, c)) == NO_STATE && state != ROOT) {
+                state = fail[state];
+            }
+            state = next == NO_STATE ? ROOT : next;
+            if (terminal[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int patternCount() {
+        return patternCount;
+    }
+
+    int stateCount() {
+        return fail.length;
+    }
+
+    private int transition(int state, char c) {
+        long key = key(state, c);
+        int slot = slot(key, mask);
+        while (true) {
+            long k = keys[slot];
+            if (k == key) {
+                return targets[slot];
+            }
+            if (k == EMPTY) {
+                return NO_STATE;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static long key(int state, char c) {
+        return ((long) state << 16) | c;
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Mutable trie used only while compiling.
+     */
+    private static final class Builder {
+        private long[] keys;
+        private int[] targets;
+        private int size;
+        private int[] parent;
+        private char[] parentChar;
+        private int[] depth;
+        private boolean[] terminal;
+        private int states = 1;
+
+        Builder(int expectedStates) {
+            int capacity = tableCapacity(expectedStates);
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            targets = new int[capacity];
+            parent = new int[expectedStates];
+            parentChar = new char[expectedStates];
+            depth = new int[expectedStates];
+            terminal = new boolean[expectedStates];
+        }
+
+        void insert(String word) {
+            int state = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                char c = Character.toLowerCase(word.charAt(i));
+                int next = get(state, c);
+                if (next == NO_STATE) {
+                    next = newState(state, c);
+                    put(state, c, next);
+                }
+                state = next;
+            }
+            terminal[state] = true;
+        }
+
+        AhoCorasickMatcher build(int patternCount) {
+            // 깊이 순으로 실패 링크를 계산하면 부모와 더 얕은 상태의 링크가 항상 먼저 확정된다
+            Integer[] order = new Integer[states];
+            for (int i = 0; i < states; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(depth[a], depth[b]));
+
+            int[] fail = new int[states];
+            boolean[] output = Arrays.copyOf(terminal, states);
+            for (int s : order) {
+                if (depth[s] <= 1) {
+                    fail[s] = ROOT;
+                    continue;
+                }
+                char c = parentChar[s];
+                int f = fail[parent[s]];
+                int target;
+                while ((target = get(f, c)) == NO_STATE && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[s] = target == NO_STATE ? ROOT : target;
+                output[s] |= output[fail[s]];
+            }
+
+            // 조회용 테이블은 실제 전이 수에 맞춰 다시 만든다
+            int capacity = tableCapacity(size);
+            long[] compactKeys = new long[capacity];
+            Arrays.fill(compactKeys, EMPTY);
+            int[] compactTargets = new int[capacity];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    int slot = slot(keys[i], capacity - 1);
+                    while (compactKeys[slot] != EMPTY) {
+                        slot = (slot + 1) & (capacity - 1);
+                    }
+                    compactKeys[slot] = keys[i];
+                    compactTargets[slot] = targets[i];
+                }
+            }
+            return new AhoCorasickMatcher(compactKeys, compactTargets, fail, output, patternCount);
+        }
+
+        private int newState(int from, char c) {
+            int state = states++;
+            if (state == parent.length) {
+                int grown = parent.length * 2;
+                parent = Arrays.copyOf(parent, grown);
+                parentChar = Arrays.copyOf(parentChar, grown);
+                depth = Arrays.copyOf(depth, grown);
+                terminal = Arrays.copyOf(terminal, grown);
+            }
+            parent[state] = from;
+            parentChar[state] = c;
+            depth[state] = depth[from] + 1;
+            return state;
+        }
+
+        private int get(int state, char c) {
+            long key = key(state, c);
+            int m = keys.length - 1;
+            int slot = slot(key, m);
+            while (true) {
+                long k = keys[slot];
+                if (k == key) {
+                    return targets[slot];
+                }
+                if (k == EMPTY) {
+                    return NO_STATE;
+                }
+                slot = (slot + 1) & m;
+            }
+        }
+
+        private void put(int state, char c, int target) {
+            if ((size + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            long key = key(state, c);
+            int m = keys.length - 1;
+            int slot = slot(key, m);
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & m;
+            }
+            keys[slot] = key;
+            targets[slot] = target;
+            size++;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldTargets = targets;
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            targets = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = slot(oldKeys[i], capacity - 1);
+                    while (keys[slot] != EMPTY) {
+                        slot = (slot + 1) & (capacity - 1);
+                    }
+                    keys[slot] = oldKeys[i];
+                    targets[slot] = oldTargets[i];
+                    size++;
+                }
+            }
+        }
+
+        /**
+         * Power of two with a load factor of at most 0.5.
+         */
+        private static int tableCapacity(int entries) {
+            return Integer.highestOneBit(Math.max(2, entries) * 2 - 1) << 1;
+        }
+    }
+}
@@ -7,15 +7,11 @@ import org.springframework.util.Assert;
 
 public class BannedWordChecker {
     
-    private final Set<String> bannedWords;
+    // 메시지 처리 스레드는 항상 완성된 automaton만 보도록 참조 단위로 교체한다
+    private volatile AhoCorasickMatcher matcher;
     
     public BannedWordChecker(Set<String> bannedWords) {
-        this.bannedWords =
-                bannedWords.stream()
-                        .filter(word -> word != null && !word.isBlank())
-                        .map(word -> word.toLowerCase(Locale.ROOT))
-                        .collect(Collectors.toUnmodifiableSet());
-        Assert.notEmpty(this.bannedWords, "Banned words set must not be empty");
+        this.matcher = compile(bannedWords);
     }
     
     public boolean containsBannedWord(String message) {
@@ -23,7 +19,28 @@ public class BannedWordChecker {
             return false;
         }
         
-        String normalizedMessage = message.toLowerCase(Locale.ROOT);
-        return bannedWords.stream().anyMatch(normalizedMessage::contains);
+        return matcher.matches(message);
+    }
+    
+    public int size() {
+        return matcher.patternCount();
+    }
+    
+    /**
+     * Build a matcher for {@code bannedWords} on the calling thread and swap it in.
+     * The previous dictionary stays active if the new one is invalid.
+     */
+    public void replaceWords(Set<String> bannedWords) {
+        this.matcher = compile(bannedWords);
+    }
+    
+    private static AhoCorasickMatcher compile(Set<String> bannedWords) {
+        Set<String> normalizedWords =
+                bannedWords.stream()
+                        .filter(word -> word != null && !word.isBlank())
+                        .map(word -> word.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toUnmodifiableSet());
+        Assert.notEmpty(normalizedWords, "Banned words set must not be empty");
+        return AhoCorasickMatcher.compile(normalizedWords);
     }
 }
@@ -0,0 +1,67 @@
+package com.ktb.chatapp.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 방 이름 검색용 정규화와 n-gram 생성
+ * 이름은 NFKC 정규화, 소문자화, 공백 정리 후 글자 단위 unigram/bigram으로 색인한다.
+ * 검색어의 bigram이 모두 포함된 방만 후보가 되므로 한글 두 글자 검색도 색인으로 찾을 수 있다.
+ */
+public final class RoomNameTokenizer {
+
+    /** 긴 이름이 색인을 키우지 않도록 앞부분만 색인한다 */
+    static final int MAX_INDEXED_LENGTH = 100;
+
+    private RoomNameTokenizer() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .strip()
+                .replaceAll("\\s+", " ");
+        return normalized.codePointCount(0, normalized.length()) > MAX_INDEXED_LENGTH
+                ? normalized.substring(0, normalized.offsetByCodePoints(0, MAX_INDEXED_LENGTH))
+                : normalized;
+    }
+
+    /**
+     * 색인할 n-gram (중복 없이 unigram과 bigram)
+     */
+    public static List<String> indexGrams(String normalizedName) {
+        int[] codePoints = normalizedName.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            if (!Character.isWhitespace(codePoints[i])) {
+                grams.add(new String(codePoints, i, 1));
+            }
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * 검색어가 포함된 이름이 반드시 가진 n-gram (한 글자면 unigram, 아니면 bigram)
+     */
+    public static List<String> queryGrams(String normalizedQuery) {
+        int[] codePoints = normalizedQuery.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return List.of(normalizedQuery);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return new ArrayList<>(grams);
+    }
+}
@@ -9,9 +9,11 @@ import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.websocket.socketio.handler.ConnectionLoginHandler;
+import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.oauth2.jwt.JwtException;
@@ -19,7 +21,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * Socket.IO Authorization Handler
- * socket.handshake.auth.token과 sessionId를 처리한다.
+ * socket.handshake.auth.token과 sessionId, 재접속 시 lastSeen을 처리한다.
  */
 @Slf4j
 @Component
@@ -71,11 +73,28 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
             log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
             
             var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
-            socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
+            socketIOChatHandlerProvider.getObject()
+                    .onConnect(client, socketUser, parseLastSeen(authToken.get("lastSeen")));
             return AuthTokenResult.AuthTokenResultSuccess;
         } catch (Exception e) {
             log.error("Socket.IO authentication error: {}", e.getMessage(), e);
             return new AuthTokenResult(false, Map.of("message", e.getMessage()));
         }
     }
+
+    /**
+     * socket.handshake.auth.lastSeen ({ roomId: messageId }) 중 올바른 ObjectId만 남긴다.
+     */
+    private Map<String, String> parseLastSeen(Object lastSeen) {
+        if (!(lastSeen instanceof Map<?, ?> entries)) {
+            return Map.of();
+        }
+        Map<String, String> result = new HashMap<>();
+        entries.forEach((roomId, messageId) -> {
+            if (roomId != null && messageId != null && ObjectId.isValid(messageId.toString())) {
+                result.put(roomId.toString(), messageId.toString());
+            }
+        });
+        return result;
+    }
 }
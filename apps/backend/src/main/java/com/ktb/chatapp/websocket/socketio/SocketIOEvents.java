@@ -46,6 +46,12 @@ public final class SocketIOEvents {
      * Payload: { messageId, reaction, type }
      */
     public static final String MESSAGE_REACTION = "messageReaction";
+
+    /**
+     * 참가자 전체 목록 요청 (참가자 변경 순번이 건너뛰었을 때)
+     * Payload: roomId (String)
+     */
+    public static final String GET_PARTICIPANTS = "getParticipants";
     
     // ============================================
     // Server → Client Events (전송 이벤트)
@@ -81,16 +87,34 @@ public final class SocketIOEvents {
      */
     public static final String PREVIOUS_MESSAGES_LOADED = "previousMessagesLoaded";
 
+    /**
+     * 재접속 시 놓친 메시지 (방 단위)
+     * Payload: { roomId, messages, truncated }
+     */
+    public static final String MESSAGES_SYNCED = "messagesSynced";
+
     /**
      * 메시지 로드 시작
      */
     public static final String MESSAGE_LOAD_START = "messageLoadStart";
 
     /**
-     * 참가자 업데이트
-     * Payload: List<UserDto>
+     * 참가자 입장 (방 단위로 모아서 전달)
+     * Payload: { roomId, version, participants: List<UserDto> }
+     */
+    public static final String PARTICIPANT_JOINED = "participantJoined";
+
+    /**
+     * 참가자 퇴장 (방 단위로 모아서 전달)
+     * Payload: { roomId, version, userIds }
      */
-    public static final String PARTICIPANTS_UPDATE = "participantsUpdate";
+    public static final String PARTICIPANT_LEFT = "participantLeft";
+
+    /**
+     * 참가자 전체 목록 (getParticipants 응답)
+     * Payload: { roomId, version, participants: List<UserDto> }
+     */
+    public static final String PARTICIPANTS_SNAPSHOT = "participantsSnapshot";
 
     /**
      * 채팅방 생성 알림
@@ -117,17 +141,29 @@ public final class SocketIOEvents {
     public static final String USER_LEFT = "userLeft";
 
     /**
-     * 메시지 읽음 상태 업데이트
+     * 메시지 읽음 상태 업데이트 (방 단위로 모아서 사용자별 읽음 위치 전달)
+     * Payload: { roomId, watermarks: [{ userId, readUpTo }] }
+     */
+    public static final String MESSAGES_READ_BATCH = "messagesReadBatch";
+
+    /**
+     * 메시지 읽음 상태 업데이트 (사용자별, chatapp.read-receipt.legacy-broadcast=true일 때만 전송)
      * Payload: { userId, messageIds }
      */
     public static final String MESSAGES_READ = "messagesRead";
 
     /**
-     * 메시지 리액션 업데이트
+     * 메시지 리액션 업데이트 (전체 리액션 맵, chatapp.reaction.full-map-broadcast=true일 때만 전송)
      * Payload: { messageId, reactions }
      */
     public static final String MESSAGE_REACTION_UPDATE = "messageReactionUpdate";
 
+    /**
+     * 메시지 리액션 변경분 (메시지 단위로 모아서 전달)
+     * Payload: { messageId, changes: [{ reaction, userId, type }] }
+     */
+    public static final String MESSAGE_REACTION_DELTA = "messageReactionDelta";
+
     /**
      * 중복 로그인 감지
      * Payload: { type, deviceInfo, ipAddress, timestamp }
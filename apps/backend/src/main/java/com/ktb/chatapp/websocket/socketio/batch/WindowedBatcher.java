@@ -0,0 +1,145 @@
+package com.ktb.chatapp.websocket.socketio.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키(방, 메시지)별로 window 동안 들어온 이벤트를 배치 하나에 모았다가 한 번에 내보낸다.
+ * <p>
+ * 키의 첫 이벤트가 window 뒤의 flush를 예약하고, 그때까지 들어온 이벤트는 같은 배치에 합쳐진다.
+ * 타이머는 플랫폼 스레드 하나, flush는 가상 스레드에서 실행한다.
+ * 배치 타입과 flush 동작은 사용하는 쪽이 정하고, 예약/종료/지표는 여기서 맡는다.
+ * <p>
+ * 지표: {@code <prefix>.received}(받은 이벤트), {@code <prefix>.flushed}(내보낸 배치),
+ * {@code <prefix>.coalescing}(배치 하나에 합쳐진 이벤트 수)
+ *
+ * @param <B> 배치 타입. {@link #submit}의 change 안에서만 수정되므로 스레드 안전할 필요가 없다.
+ */
+@Slf4j
+public class WindowedBatcher<B> implements AutoCloseable {
+
+    private final String name;
+    private final Duration window;
+    private final Supplier<B> newBatch;
+    private final BiConsumer<String, B> flushAction;
+
+    private final Map<String, Pending<B>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flushExecutor;
+
+    private final Counter receivedCounter;
+    private final Counter flushCounter;
+    private final DistributionSummary batchSize;
+
+    /**
+     * @param name 스레드 이름과 로그에 쓰는 이름 (예: read-receipt)
+     * @param metricPrefix 지표 이름 접두사 (예: chat.read_receipts)
+     * @param newBatch 키의 첫 이벤트에서 빈 배치 생성
+     * @param flushAction window가 끝난 배치 처리 (키, 배치)
+     */
+    public WindowedBatcher(
+            String name,
+            String metricPrefix,
+            Duration window,
+            Supplier<B> newBatch,
+            BiConsumer<String, B> flushAction,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.window = window;
+        this.newBatch = newBatch;
+        this.flushAction = flushAction;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name + "-timer").daemon(true).factory());
+        this.flushExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(name + "-flush-", 0).factory());
+
+        this.receivedCounter = Counter.builder(metricPrefix + ".received")
+                .description("Events accepted for batching")
+                .register(meterRegistry);
+        this.flushCounter = Counter.builder(metricPrefix + ".flushed")
+                .description("Batches written and broadcast")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder(metricPrefix + ".coalescing")
+                .description("Events merged into one flush (coalescing ratio)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트를 키의 배치에 합친다. 키의 첫 이벤트면 window 뒤 flush를 예약한다.
+     *
+     * @param change 배치에 이벤트를 반영 (키 단위로 직렬화되어 호출된다)
+     */
+    public void submit(String key, Consumer<B> change) {
+        receivedCounter.increment();
+        pending.compute(key, (k, current) -> {
+            if (current == null) {
+                current = new Pending<>(newBatch.get());
+                schedule(key);
+            }
+            change.accept(current.batch);
+            current.events++;
+            return current;
+        });
+    }
+
+    private void schedule(String key) {
+        try {
+            scheduler.schedule(() -> flushExecutor.execute(() -> flush(key)),
+                    window.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 close()에서 남은 배치를 내보낸다
+            log.debug("{} flush not scheduled for {} during shutdown", name, key);
+        }
+    }
+
+    /**
+     * 키에 모인 배치를 바로 내보낸다. 모인 배치가 없으면 아무것도 하지 않는다.
+     */
+    public void flush(String key) {
+        Pending<B> current = pending.remove(key);
+        if (current == null) {
+            return;
+        }
+        batchSize.record(current.events);
+        try {
+            flushAction.accept(key, current.batch);
+        } catch (Exception e) {
+            log.error("{} flush error for {}", name, key, e);
+        } finally {
+            flushCounter.increment();
+        }
+    }
+
+    /**
+     * 예약된 flush를 취소하고 남은 배치를 모두 내보낸다.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        List.copyOf(pending.keySet()).forEach(this::flush);
+        flushExecutor.shutdown();
+    }
+
+    private static final class Pending<B> {
+        private final B batch;
+        private int events;
+
+        Pending(B batch) {
+            this.batch = batch;
+        }
+    }
+}
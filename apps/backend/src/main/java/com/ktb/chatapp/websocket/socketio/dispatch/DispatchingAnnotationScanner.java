@@ -0,0 +1,90 @@
+package com.ktb.chatapp.websocket.socketio.dispatch;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.annotation.OnConnect;
+import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * SpringAnnotationScanner 대체 구현.
+ * {@code @OnEvent}/{@code @OnDisconnect} 메서드를 찾아 리스너로 등록하되,
+ * 핸들러 실행은 {@link SocketIOEventDispatcher}에 위임해 netty 워커 스레드를 막지 않는다.
+ * <p>
+ * 핸들러 시그니처는 {@code (SocketIOClient[, Data])} 형태만 지원한다.
+ * 응답은 AckRequest 대신 {@code client.sendEvent}로 보낸다.
+ */
+@Slf4j
+public class DispatchingAnnotationScanner implements BeanPostProcessor {
+
+    private final SocketIOServer socketIOServer;
+    private final SocketIOEventDispatcher dispatcher;
+
+    public DispatchingAnnotationScanner(SocketIOServer socketIOServer, SocketIOEventDispatcher dispatcher) {
+        this.socketIOServer = socketIOServer;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        ReflectionUtils.doWithMethods(targetClass, method -> register(bean, beanName, method),
+                method -> method.isAnnotationPresent(OnEvent.class)
+                        || method.isAnnotationPresent(OnDisconnect.class)
+                        || method.isAnnotationPresent(OnConnect.class));
+        return bean;
+    }
+
+    private void register(Object bean, String beanName, Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length == 0 || parameterTypes.length > 2
+                || !SocketIOClient.class.equals(parameterTypes[0])) {
+            throw new IllegalStateException("Unsupported Socket.IO handler signature: " + method
+                    + " - expected (SocketIOClient[, Data])");
+        }
+        ReflectionUtils.makeAccessible(method);
+
+        OnEvent onEvent = method.getAnnotation(OnEvent.class);
+        if (onEvent != null) {
+            String event = onEvent.value();
+            if (parameterTypes.length == 2) {
+                @SuppressWarnings("unchecked")
+                Class<Object> dataClass = (Class<Object>) parameterTypes[1];
+                socketIOServer.addEventListener(event, dataClass, (client, data, ackRequest) ->
+                        dispatcher.dispatch(client.getSessionId(), event,
+                                () -> invoke(bean, method, client, data)));
+            } else {
+                socketIOServer.addEventListener(event, Object.class, (client, data, ackRequest) ->
+                        dispatcher.dispatch(client.getSessionId(), event, () -> invoke(bean, method, client)));
+            }
+            log.debug("Socket.IO event '{}' dispatched to {}.{}", event, beanName, method.getName());
+        }
+
+        if (method.isAnnotationPresent(OnDisconnect.class)) {
+            socketIOServer.addDisconnectListener(client ->
+                    dispatcher.dispatchDisconnect(client.getSessionId(), () -> invoke(bean, method, client)));
+        }
+
+        if (method.isAnnotationPresent(OnConnect.class)) {
+            socketIOServer.addConnectListener(client ->
+                    dispatcher.dispatch(client.getSessionId(), "connect", () -> invoke(bean, method, client)));
+        }
+    }
+
+    private static void invoke(Object bean, Method method, Object... args) {
+        try {
+            method.invoke(bean, args);
+        } catch (InvocationTargetException e) {
+            ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.ktb.chatapp.websocket.socketio.dispatch;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Socket.IO 이벤트 핸들러를 netty 워커 스레드 대신 가상 스레드에서 실행한다.
+ * <p>
+ * 클라이언트(세션)마다 전용 큐(lane)를 두고 한 번에 하나의 가상 스레드만 그 큐를 비우므로,
+ * 같은 클라이언트가 보낸 이벤트는 도착 순서대로 처리되고 서로 다른 클라이언트는 병렬로 처리된다.
+ * 연결 해제 이벤트도 같은 큐를 거치므로 앞서 도착한 이벤트가 모두 끝난 뒤 실행된다.
+ * 큐는 비는 즉시 정리되므로 연결 해제 뒤에 늦게 도착한 이벤트도 큐를 남기지 않는다.
+ */
+@Slf4j
+public class SocketIOEventDispatcher implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Duration shutdownTimeout;
+    private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicLong queuedTasks = new AtomicLong();
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SocketIOEventDispatcher(MeterRegistry meterRegistry, Duration shutdownTimeout) {
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("socketio-handler-", 0).factory());
+        this.shutdownTimeout = shutdownTimeout;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("socketio.dispatch.queue.depth", queuedTasks, AtomicLong::get)
+                .description("Socket.IO events waiting for a handler thread")
+                .register(meterRegistry);
+        Gauge.builder("socketio.dispatch.clients", lanes, Map::size)
+                .description("Clients with queued or running Socket.IO events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 핸들러를 클라이언트 큐에 넣는다.
+     *
+     * @param clientId Socket.IO 세션 ID
+     * @param event 이벤트 이름 (지표 태그)
+     * @param task 실행할 핸들러
+     */
+    public void dispatch(UUID clientId, String event, Runnable task) {
+        enqueue(clientId, event, task);
+    }
+
+    /**
+     * 연결 해제 핸들러를 큐에 넣는다. 앞서 들어온 이벤트가 모두 끝난 뒤 실행된다.
+     */
+    public void dispatchDisconnect(UUID clientId, Runnable task) {
+        enqueue(clientId, "disconnect", task);
+    }
+
+    private void enqueue(UUID clientId, String event, Runnable task) {
+        queuedTasks.incrementAndGet();
+        Timer waitTimer = waitTimers.computeIfAbsent(event, name -> Timer.builder("socketio.dispatch.wait")
+                .description("Time a Socket.IO event waits before its handler starts")
+                .tag("event", name)
+                .register(meterRegistry));
+        QueuedTask queued = new QueuedTask(task, waitTimer, System.nanoTime());
+
+        // 큐 정리(retireIfIdle)와 같은 잠금 안에서 넣어, 정리된 큐에 이벤트가 들어가지 않게 한다
+        Lane lane = lanes.compute(clientId, (id, current) -> {
+            Lane target = current != null ? current : new Lane(id);
+            target.tasks.add(queued);
+            return target;
+        });
+        lane.schedule();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Socket.IO dispatcher did not finish {} queued events within {}",
+                    queuedTasks.get(), shutdownTimeout);
+            executor.shutdownNow();
+        }
+    }
+
+    private record QueuedTask(Runnable task, Timer waitTimer, long enqueuedAt) {
+    }
+
+    private final class Lane {
+        private final UUID clientId;
+        private final Queue<QueuedTask> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Lane(UUID clientId) {
+            this.clientId = clientId;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * 큐가 빌 때까지 순서대로 실행한다. scheduled 플래그를 내린 뒤 다시 확인해
+         * 그 사이에 들어온 이벤트가 실행되지 않고 남는 일을 막는다.
+         */
+        private void drain() {
+            do {
+                QueuedTask queued;
+                while ((queued = tasks.poll()) != null) {
+                    run(queued);
+                }
+                scheduled.set(false);
+            } while (!tasks.isEmpty() && scheduled.compareAndSet(false, true));
+            retireIfIdle();
+        }
+
+        /**
+         * 실행 중인 drain도 남은 이벤트도 없으면 큐를 맵에서 뺀다.
+         * 다음 이벤트는 새 큐를 만들며, 이 큐가 끝난 뒤이므로 순서가 섞이지 않는다.
+         */
+        private void retireIfIdle() {
+            lanes.computeIfPresent(clientId, (id, current) ->
+                    current == this && !scheduled.get() && tasks.isEmpty() ? null : current);
+        }
+
+        private void run(QueuedTask queued) {
+            queuedTasks.decrementAndGet();
+            queued.waitTimer().record(System.nanoTime() - queued.enqueuedAt(), TimeUnit.NANOSECONDS);
+            try {
+                queued.task().run();
+            } catch (Throwable e) {
+                log.error("Socket.IO event handler failed - client: {}", clientId, e);
+            }
+        }
+    }
+}
@@ -31,20 +31,20 @@ public class ConnectionLoginHandler {
     private final SocketIOServer socketIOServer;
     private final ConnectedUsers connectedUsers;
     private final UserRooms userRooms;
-    private final RoomJoinHandler roomJoinHandler;
+    private final RoomRejoinHandler roomRejoinHandler;
     private final RoomLeaveHandler roomLeaveHandler;
 
     public ConnectionLoginHandler(
             SocketIOServer socketIOServer,
             ConnectedUsers connectedUsers,
             UserRooms userRooms,
-            RoomJoinHandler roomJoinHandler,
+            RoomRejoinHandler roomRejoinHandler,
             RoomLeaveHandler roomLeaveHandler,
             MeterRegistry meterRegistry) {
         this.socketIOServer = socketIOServer;
         this.connectedUsers = connectedUsers;
         this.userRooms = userRooms;
-        this.roomJoinHandler = roomJoinHandler;
+        this.roomRejoinHandler = roomRejoinHandler;
         this.roomLeaveHandler = roomLeaveHandler;
 
         // Register gauge metric for concurrent users
@@ -55,18 +55,21 @@ public class ConnectionLoginHandler {
     
     /**
      * auth 처리가 선행되어야 해서 @OnConnect 대신 별도 메서드로 구현
+     *
+     * @param lastSeen 방 ID별 클라이언트가 마지막으로 받은 메시지 ID (handshake auth.lastSeen)
      */
-    public void onConnect(SocketIOClient client, SocketUser user) {
+    public void onConnect(SocketIOClient client, SocketUser user, Map<String, String> lastSeen) {
         String userId = user.id();
         
         try {
             notifyDuplicateLogin(client, userId);
             client.set("user", user);
             
-            userRooms.get(userId).forEach(roomId -> {
-                // 재접속 시 기존 참여 방 재입장 처리
-                roomJoinHandler.handleJoinRoom(client, roomId);
-            });
+            // 재접속 시 기존 참여 방은 입장 처리 없이 다시 구독하고 놓친 메시지만 동기화
+            Set<String> roomIds = userRooms.get(userId);
+            if (!roomIds.isEmpty()) {
+                roomRejoinHandler.rejoin(client, roomIds, lastSeen);
+            }
             
             connectedUsers.set(userId, user);
 
@@ -0,0 +1,58 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * 메시지 히스토리 keyset 커서.
+ * (timestamp, _id) 쌍을 가리키며, 같은 timestamp를 가진 메시지도 _id로 구분해 누락 없이 이어서 조회한다.
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+record MessageCursor(long timestampMillis, String messageId) {
+
+    static MessageCursor of(Message message) {
+        return new MessageCursor(message.toTimestampMillis(), message.getId());
+    }
+
+    static MessageCursor of(MessageResponse message) {
+        return new MessageCursor(message.getTimestamp(), message.getId());
+    }
+
+    LocalDateTime timestamp() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
+    }
+
+    String encode() {
+        String raw = timestampMillis + ":" + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 해석할 수 없는 토큰이면 null
+     */
+    static MessageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator <= 0) {
+                return null;
+            }
+            String messageId = raw.substring(separator + 1);
+            if (!ObjectId.isValid(messageId)) {
+                return null;
+            }
+            return new MessageCursor(Long.parseLong(raw.substring(0, separator)), messageId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
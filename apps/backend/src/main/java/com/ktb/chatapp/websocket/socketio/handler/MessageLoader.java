@@ -3,18 +3,26 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.MessagesSyncResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
-import jakarta.annotation.Nullable;
+import com.ktb.chatapp.service.ReadWatermarks;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.bson.types.ObjectId;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,15 +39,20 @@ public class MessageLoader {
     private final UserRepository userRepository;
     private final MessageResponseMapper messageResponseMapper;
     private final MessageReadStatusService messageReadStatusService;
+    private final RecentMessageCache recentMessageCache;
 
     private static final int BATCH_SIZE = 30;
+    private static final Sort HISTORY_SORT = Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("_id"));
+    private static final Sort SYNC_SORT = Sort.by(Sort.Order.asc("timestamp"), Sort.Order.asc("_id"));
 
     /**
      * 메시지 로드
+     * cursor가 있으면 (timestamp, _id) keyset으로, 없으면 before timestamp 기준으로 이전 메시지를 조회한다.
+     * 둘 다 없는 첫 페이지는 최근 메시지 캐시에서 응답하고, 캐시가 응답할 수 없을 때만 MongoDB를 조회한다.
      */
     public FetchMessagesResponse loadMessages(FetchMessagesRequest data, String userId) {
         try {
-            return loadMessagesInternal(data.roomId(), data.limit(BATCH_SIZE), data.before(LocalDateTime.now()), userId);
+            return loadMessagesInternal(data, data.limit(BATCH_SIZE), userId);
         } catch (Exception e) {
             log.error("Error loading initial messages for room {}", data.roomId(), e);
             return FetchMessagesResponse.builder()
@@ -49,33 +62,93 @@ public class MessageLoader {
         }
     }
 
+    /**
+     * 마지막으로 본 메시지 이후의 메시지 조회 (재접속 동기화)
+     * 최근 메시지 캐시에 기준 메시지가 있으면 메모리에서, 없으면 기준 메시지와 keyset 조회로 응답한다.
+     * limit개를 넘게 놓쳤거나 기준 메시지를 찾을 수 없으면 truncated로 응답한다.
+     */
+    public MessagesSyncResponse loadSince(String roomId, String lastMessageId, int limit) {
+        try {
+            var cached = recentMessageCache.since(roomId, lastMessageId);
+            if (cached.isPresent()) {
+                List<MessageResponse> messages = cached.get();
+                return messages.size() > limit ? truncated(roomId) : synced(roomId, List.copyOf(messages));
+            }
+
+            if (lastMessageId == null || !ObjectId.isValid(lastMessageId)) {
+                return truncated(roomId);
+            }
+            Message last = messageRepository.findById(lastMessageId)
+                    .filter(message -> roomId.equals(message.getRoomId()))
+                    .orElse(null);
+            if (last == null) {
+                return truncated(roomId);
+            }
+
+            List<Message> fetched = messageRepository.findAfterCursor(
+                    roomId, last.getTimestamp(), new ObjectId(last.getId()), PageRequest.of(0, limit + 1, SYNC_SORT));
+            if (fetched.size() > limit) {
+                return truncated(roomId);
+            }
+            if (fetched.isEmpty()) {
+                return synced(roomId, emptyList());
+            }
+            return synced(roomId, messageResponseMapper.mapToMessageResponses(
+                    fetched,
+                    findSenders(fetched),
+                    messageReadStatusService.findWatermarks(roomId, fetched.getFirst().getTimestamp())));
+        } catch (Exception e) {
+            log.error("Error loading messages since {} for room {}", lastMessageId, roomId, e);
+            return truncated(roomId);
+        }
+    }
+
+    private static MessagesSyncResponse synced(String roomId, List<MessageResponse> messages) {
+        return MessagesSyncResponse.builder().roomId(roomId).messages(messages).truncated(false).build();
+    }
+
+    private static MessagesSyncResponse truncated(String roomId) {
+        return MessagesSyncResponse.builder().roomId(roomId).messages(emptyList()).truncated(true).build();
+    }
+
     private FetchMessagesResponse loadMessagesInternal(
-            String roomId,
+            FetchMessagesRequest data,
             int limit,
-            LocalDateTime before,
             String userId) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").descending());
+        String roomId = data.roomId();
+        boolean firstPage = isFirstPage(data);
+        if (firstPage) {
+            var recent = recentMessageCache.firstPage(roomId, limit);
+            if (recent.isPresent()) {
+                return fromRecentPage(roomId, recent.get(), userId);
+            }
+        }
 
-        Page<Message> messagePage = messageRepository
-                .findByRoomIdAndIsDeletedAndTimestampBefore(roomId, false, before, pageable);
+        // limit + 1개를 조회해 다음 페이지 존재 여부를 판단하므로 count 쿼리가 필요 없다
+        Pageable pageable = PageRequest.of(0, limit + 1, HISTORY_SORT);
 
-        List<Message> messages = messagePage.getContent();
+        List<Message> fetched = fetchPage(data, roomId, pageable);
+        boolean hasMore = fetched.size() > limit;
+        List<Message> messages = hasMore ? fetched.subList(0, limit) : fetched;
 
         // DESC로 조회했으므로 ASC로 재정렬 (채팅 UI 표시 순서)
         List<Message> sortedMessages = messages.reversed();
         
-        var messageIds = sortedMessages.stream().map(Message::getId).toList();
-        messageReadStatusService.updateReadStatus(messageIds, userId);
-        
-        // 메시지 응답 생성
-        List<MessageResponse> messageResponses = sortedMessages.stream()
-                .map(message -> {
-                    var user = findUserById(message.getSenderId());
-                    return messageResponseMapper.mapToMessageResponse(message, user);
-                })
-                .collect(Collectors.toList());
+        // 메시지 응답 생성 (발신자와 파일, 읽음 위치는 페이지 단위로 한 번씩만 조회)
+        // 읽음 위치는 페이지의 가장 오래된 메시지 이후만 조회해 참가자 수가 아닌 실제 읽은 사용자 수에 비례한다
+        List<MessageResponse> messageResponses = messageResponseMapper.mapToMessageResponses(
+                sortedMessages,
+                findSenders(sortedMessages),
+                sortedMessages.isEmpty()
+                        ? ReadWatermarks.empty()
+                        : messageReadStatusService.findWatermarks(roomId, sortedMessages.getFirst().getTimestamp()));
+
+        if (firstPage) {
+            recentMessageCache.seed(roomId, messageResponses, hasMore);
+        }
+        markPageRead(roomId, messageResponses, userId);
 
-        boolean hasMore = messagePage.hasNext();
+        String nextCursor = hasMore ? MessageCursor.of(messages.getLast()).encode() : null;
 
         log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
                 roomId, limit, messageResponses.size(), hasMore);
@@ -83,18 +156,78 @@ public class MessageLoader {
         return FetchMessagesResponse.builder()
                 .messages(messageResponses)
                 .hasMore(hasMore)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    private static boolean isFirstPage(FetchMessagesRequest data) {
+        return (data.cursor() == null || data.cursor().isBlank())
+                && (data.before() == null || data.before() <= 0);
+    }
+
+    private FetchMessagesResponse fromRecentPage(
+            String roomId,
+            RecentMessageCache.RecentPage page,
+            String userId) {
+        List<MessageResponse> messages = page.messages();
+        markPageRead(roomId, messages, userId);
+
+        String nextCursor = page.hasMore() && !messages.isEmpty()
+                ? MessageCursor.of(messages.getFirst()).encode()
+                : null;
+
+        log.debug("Messages served from recent cache - roomId: {}, count: {}, hasMore: {}",
+                roomId, messages.size(), page.hasMore());
+
+        return FetchMessagesResponse.builder()
+                .messages(messages)
+                .hasMore(page.hasMore())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 페이지의 가장 최신 메시지까지 읽음 위치를 전진
+     */
+    private void markPageRead(String roomId, List<MessageResponse> messages, String userId) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        long newest = messages.getLast().getTimestamp();
+        messageReadStatusService.markReadUpTo(roomId, userId,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(newest), ZoneId.systemDefault()));
+        recentMessageCache.markReadUpTo(roomId, userId, newest, LocalDateTime.now());
+    }
+
+    private List<Message> fetchPage(FetchMessagesRequest data, String roomId, Pageable pageable) {
+        MessageCursor cursor = MessageCursor.decode(data.cursor());
+        if (cursor != null) {
+            return messageRepository.findBeforeCursor(
+                    roomId, cursor.timestamp(), new ObjectId(cursor.messageId()), pageable);
+        }
+        if (data.cursor() != null) {
+            log.debug("Ignoring malformed message cursor for room {}", roomId);
+        }
+        if (data.before() != null && data.before() > 0) {
+            return messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
+                    roomId, false, data.before(LocalDateTime.now()), pageable);
+        }
+        return messageRepository.findByRoomIdAndIsDeleted(roomId, false, pageable);
+    }
+
     /**
-     * AI 경우 null 반환 가능
+     * 페이지에 등장하는 발신자를 한 번에 조회
+     * AI/시스템 메시지처럼 발신자가 없거나 삭제된 사용자는 결과에 포함되지 않는다.
      */
-    @Nullable
-    private User findUserById(String id) {
-        if (id == null) {
-            return null;
+    private Map<String, User> findSenders(List<Message> messages) {
+        Set<String> senderIds = messages.stream()
+                .map(Message::getSenderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (senderIds.isEmpty()) {
+            return Map.of();
         }
-        return userRepository.findById(id)
-                .orElse(null);
+        return userRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
     }
 }
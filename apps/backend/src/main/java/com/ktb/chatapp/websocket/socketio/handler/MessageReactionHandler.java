@@ -1,12 +1,9 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageReactionRequest;
-import com.ktb.chatapp.dto.MessageReactionResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.service.MessageReactionService;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +15,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 
 /**
  * 메시지 리액션 처리 핸들러
- * 메시지 이모지 리액션 추가/제거 및 브로드캐스트 담당
+ * 메시지 이모지 리액션 요청 검증 후 집계기로 전달
  */
 @Slf4j
 @Component
@@ -26,8 +23,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReactionHandler {
     
-    private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
+    private final ReactionAggregator reactionAggregator;
     
     @OnEvent(MESSAGE_REACTION)
     public void handleMessageReaction(SocketIOClient client, MessageReactionRequest data) {
@@ -38,33 +34,28 @@ public class MessageReactionHandler {
                 return;
             }
 
-            Message message = messageRepository.findById(data.getMessageId()).orElse(null);
-            if (message == null) {
+            if (data.getMessageId() == null || data.getMessageId().isBlank()) {
                 client.sendEvent(ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
                 return;
             }
 
-            switch (data.getType()) {
-                case "add" -> message.addReaction(data.getReaction(), userId);
-                case "remove" -> message.removeReaction(data.getReaction(), userId);
-                case null, default -> {
-                    client.sendEvent(ERROR, Map.of("message", "지원하지 않는 리액션 타입입니다."));
-                    return;
-                }
+            String reaction = data.getReaction();
+            if (!MessageReactionService.isValidReaction(reaction)) {
+                client.sendEvent(ERROR, Map.of("message", "지원하지 않는 리액션입니다."));
+                return;
             }
 
-            log.debug("Message reaction processed - type: {}, reaction: {}, messageId: {}, userId: {}",
-                data.getType(), data.getReaction(), message.getId(), userId);
-
-            messageRepository.save(message);
+            boolean add = "add".equals(data.getType());
+            if (!add && !"remove".equals(data.getType())) {
+                client.sendEvent(ERROR, Map.of("message", "지원하지 않는 리액션 타입입니다."));
+                return;
+            }
 
-            MessageReactionResponse response = new MessageReactionResponse(
-                message.getId(),
-                message.getReactions()
-            );
+            // 같은 메시지의 리액션은 window 동안 모아서 한 번 저장하고 변경분만 브로드캐스트한다
+            reactionAggregator.submit(client.getSessionId(), data.getMessageId(), reaction, userId, add);
 
-            socketIOServer.getRoomOperations(message.getRoomId())
-                .sendEvent(MESSAGE_REACTION_UPDATE, response);
+            log.debug("Message reaction queued - type: {}, reaction: {}, messageId: {}, userId: {}",
+                data.getType(), reaction, data.getMessageId(), userId);
 
         } catch (Exception e) {
             log.error("Error handling messageReaction", e);
@@ -1,17 +1,11 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MarkAsReadRequest;
-import com.ktb.chatapp.dto.MessagesReadResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.cache.RoomParticipantCache;
+import com.ktb.chatapp.service.cache.UserSummaryCache;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +17,8 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 
 /**
  * 메시지 읽음 상태 처리 핸들러
- * 메시지 읽음 상태 업데이트 및 브로드캐스트 담당
+ * 메시지 읽음 상태 검증 후 ReadReceiptAggregator로 전달
+ * 사용자와 참가 여부는 캐시로 확인하므로 이벤트당 MongoDB 조회는 읽음 위치 조회 한 번이다.
  */
 @Slf4j
 @Component
@@ -31,11 +26,10 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReadHandler {
     
-    private final SocketIOServer socketIOServer;
     private final MessageReadStatusService messageReadStatusService;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final RoomParticipantCache roomParticipantCache;
+    private final ReadReceiptAggregator readReceiptAggregator;
     
     @OnEvent(MARK_MESSAGES_AS_READ)
     public void handleMarkAsRead(SocketIOClient client, MarkAsReadRequest data) {
@@ -50,33 +44,25 @@ public class MessageReadHandler {
                 return;
             }
             
-            String roomId = messageRepository.findById(data.getMessageIds().getFirst())
-                    .map(Message::getRoomId).orElse(null);
-            
-            if (roomId == null || roomId.isBlank()) {
-                client.sendEvent(ERROR, Map.of("message", "Invalid room"));
+            if (userSummaryCache.get(userId).isEmpty()) {
+                client.sendEvent(ERROR, Map.of("message", "User not found"));
                 return;
             }
 
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
-                client.sendEvent(ERROR, Map.of("message", "User not found"));
+            // 방 ID와 읽음 위치를 메시지 조회 한 번으로 얻는다
+            var position = messageReadStatusService.findReadPosition(data.getMessageIds()).orElse(null);
+            if (position == null) {
+                client.sendEvent(ERROR, Map.of("message", "Invalid room"));
                 return;
             }
 
-            Room room = roomRepository.findById(roomId).orElse(null);
-            if (room == null || !room.getParticipantIds().contains(userId)) {
+            if (!roomParticipantCache.isParticipant(position.roomId(), userId)) {
                 client.sendEvent(ERROR, Map.of("message", "Room access denied"));
                 return;
             }
-            
-            messageReadStatusService.updateReadStatus(data.getMessageIds(), userId);
-
-            MessagesReadResponse response = new MessagesReadResponse(userId, data.getMessageIds());
 
-            // Broadcast to room
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGES_READ, response);
+            // 저장과 브로드캐스트는 방 단위로 모아서 한 번에 처리
+            readReceiptAggregator.submit(position.roomId(), userId, position.readUpTo(), data.getMessageIds());
 
         } catch (Exception e) {
             log.error("Error handling markMessagesAsRead", e);
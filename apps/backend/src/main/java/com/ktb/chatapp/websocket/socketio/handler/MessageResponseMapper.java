@@ -3,12 +3,20 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.ktb.chatapp.dto.FileResponse;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.service.ReadWatermarks;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -24,6 +32,48 @@ public class MessageResponseMapper {
 
     private final FileRepository fileRepository;
 
+    /**
+     * 한 페이지의 메시지를 MessageResponse DTO 목록으로 변환
+     * 첨부 파일은 페이지 단위로 한 번에 조회한다.
+     *
+     * @param messages 변환할 메시지 목록
+     * @param senders 발신자 ID별 사용자 정보 (AI/시스템 메시지는 없음)
+     * @return 입력 순서를 유지한 MessageResponse 목록
+     */
+    public List<MessageResponse> mapToMessageResponses(List<Message> messages, Map<String, User> senders) {
+        return mapToMessageResponses(messages, senders, ReadWatermarks.empty());
+    }
+
+    /**
+     * 한 페이지의 메시지를 변환하면서 읽은 사용자를 방의 읽음 위치로부터 채운다.
+     *
+     * @param messages 변환할 메시지 목록
+     * @param senders 발신자 ID별 사용자 정보 (AI/시스템 메시지는 없음)
+     * @param watermarks 메시지가 속한 방의 읽음 위치
+     * @return 입력 순서를 유지한 MessageResponse 목록
+     */
+    public List<MessageResponse> mapToMessageResponses(
+            List<Message> messages,
+            Map<String, User> senders,
+            ReadWatermarks watermarks) {
+        Set<String> fileIds = messages.stream()
+                .map(Message::getFileId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, File> files = fileIds.isEmpty()
+                ? Map.of()
+                : fileRepository.findAllById(fileIds).stream()
+                        .collect(Collectors.toMap(File::getId, Function.identity()));
+
+        return messages.stream()
+                .map(message -> toResponse(
+                        message,
+                        message.getSenderId() != null ? senders.get(message.getSenderId()) : null,
+                        message.getFileId() != null ? files.get(message.getFileId()) : null,
+                        watermarks.readersOf(message)))
+                .toList();
+    }
+
     /**
      * Message 엔티티를 MessageResponse DTO로 변환
      *
@@ -32,6 +82,14 @@ public class MessageResponseMapper {
      * @return MessageResponse DTO
      */
     public MessageResponse mapToMessageResponse(Message message, User sender) {
+        File file = Optional.ofNullable(message.getFileId())
+                .flatMap(fileRepository::findById)
+                .orElse(null);
+        return toResponse(message, sender, file,
+                message.getReaders() != null ? message.getReaders() : new ArrayList<>());
+    }
+
+    private MessageResponse toResponse(Message message, User sender, File file, List<Message.MessageReader> readers) {
         MessageResponse.MessageResponseBuilder builder = MessageResponse.builder()
                 .id(message.getId())
                 .content(message.getContent())
@@ -40,8 +98,8 @@ public class MessageResponseMapper {
                 .roomId(message.getRoomId())
                 .reactions(message.getReactions() != null ?
                         message.getReactions() : new HashMap<>())
-                .readers(message.getReaders() != null ?
-                        message.getReaders() : new ArrayList<>());
+                .readers(readers)
+                .readCount(readers.size());
 
         // 발신자 정보 설정
         if (sender != null) {
@@ -54,16 +112,15 @@ public class MessageResponseMapper {
         }
 
         // 파일 정보 설정
-        Optional.ofNullable(message.getFileId())
-                .flatMap(fileRepository::findById)
-                .map(file -> FileResponse.builder()
-                        .id(file.getId())
-                        .filename(file.getFilename())
-                        .originalname(file.getOriginalname())
-                        .mimetype(file.getMimetype())
-                        .size(file.getSize())
-                        .build())
-                .ifPresent(builder::file);
+        if (file != null) {
+            builder.file(FileResponse.builder()
+                    .id(file.getId())
+                    .filename(file.getFilename())
+                    .originalname(file.getOriginalname())
+                    .mimetype(file.getMimetype())
+                    .size(file.getSize())
+                    .build());
+        }
 
         // 메타데이터 설정
         if (message.getMetadata() != null) {
@@ -0,0 +1,116 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.ParticipantJoinedResponse;
+import com.ktb.chatapp.dto.ParticipantLeftResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.service.RoomParticipantVersionService;
+import com.ktb.chatapp.websocket.socketio.batch.WindowedBatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 방별 참가자 변경 집계기
+ * 첫 입장/퇴장부터 window 동안 들어온 변경을 사용자별 마지막 상태로 합친 뒤,
+ * 참가자 변경 순번을 한 번 올리고 participantLeft/participantJoined를 각각 최대 한 번씩 브로드캐스트한다.
+ * 전체 참가자 목록은 보내지 않는다 (순번이 건너뛴 클라이언트는 getParticipants로 다시 받는다).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ParticipantDeltaAggregator {
+
+    private final SocketIOServer socketIOServer;
+    private final RoomParticipantVersionService roomParticipantVersionService;
+    private final WindowedBatcher<RoomBatch> batcher;
+
+    public ParticipantDeltaAggregator(
+            SocketIOServer socketIOServer,
+            RoomParticipantVersionService roomParticipantVersionService,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.participants.window:200ms}") Duration window) {
+        this.socketIOServer = socketIOServer;
+        this.roomParticipantVersionService = roomParticipantVersionService;
+        this.batcher = new WindowedBatcher<>(
+                "participant-delta", "chat.participants", window, RoomBatch::new, this::flushBatch, meterRegistry);
+    }
+
+    /**
+     * 입장한 참가자를 집계에 추가
+     */
+    public void submitJoined(String roomId, UserResponse participant) {
+        batcher.submit(roomId, batch -> batch.joined(participant));
+    }
+
+    /**
+     * 퇴장한 참가자를 집계에 추가
+     */
+    public void submitLeft(String roomId, String userId) {
+        batcher.submit(roomId, batch -> batch.left(userId));
+    }
+
+    /**
+     * 방에 모인 참가자 변경을 바로 내보낸다
+     */
+    void flush(String roomId) {
+        batcher.flush(roomId);
+    }
+
+    private void flushBatch(String roomId, RoomBatch batch) {
+        int steps = (batch.joined.isEmpty() ? 0 : 1) + (batch.left.isEmpty() ? 0 : 1);
+        OptionalLong advanced = roomParticipantVersionService.advance(roomId, steps);
+        if (advanced.isEmpty()) {
+            log.debug("Room {} removed before participant delta flush", roomId);
+            return;
+        }
+        long version = advanced.getAsLong() - steps + 1;
+
+        BroadcastOperations roomOperations = socketIOServer.getRoomOperations(roomId);
+        if (!batch.left.isEmpty()) {
+            roomOperations.sendEvent(PARTICIPANT_LEFT,
+                    new ParticipantLeftResponse(roomId, version++, List.copyOf(batch.left)));
+        }
+        if (!batch.joined.isEmpty()) {
+            roomOperations.sendEvent(PARTICIPANT_JOINED,
+                    new ParticipantJoinedResponse(roomId, version, List.copyOf(batch.joined.values())));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batcher.close();
+    }
+
+    /**
+     * 한 방에 모인 참가자 변경.
+     * 같은 사용자가 window 안에서 입장 후 퇴장(또는 반대)하면 마지막 상태만 남긴다.
+     */
+    private static final class RoomBatch {
+        private final Map<String, UserResponse> joined = new LinkedHashMap<>();
+        private final Set<String> left = new LinkedHashSet<>();
+
+        void joined(UserResponse participant) {
+            left.remove(participant.getId());
+            joined.put(participant.getId(), participant);
+        }
+
+        void left(String userId) {
+            joined.remove(userId);
+            left.add(userId);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageReactionDeltaResponse;
+import com.ktb.chatapp.dto.MessageReactionResponse;
+import com.ktb.chatapp.service.MessageReactionService;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import com.ktb.chatapp.websocket.socketio.batch.WindowedBatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 메시지별 리액션 집계기
+ * 첫 리액션부터 window 동안 같은 메시지에 들어온 리액션을 (리액션, 사용자)별 마지막 요청으로 합친 뒤,
+ * 원자적 업데이트 한 번과 MESSAGE_REACTION_DELTA 브로드캐스트 한 번으로 내보낸다.
+ * fullMapBroadcast가 켜져 있으면 구버전 클라이언트를 위해 MESSAGE_REACTION_UPDATE도 함께 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactionAggregator {
+
+    static final String ADD = "add";
+    static final String REMOVE = "remove";
+
+    private final SocketIOServer socketIOServer;
+    private final MessageReactionService messageReactionService;
+    private final RecentMessageCache recentMessageCache;
+    private final boolean fullMapBroadcast;
+    private final WindowedBatcher<MessageBatch> batcher;
+
+    public ReactionAggregator(
+            SocketIOServer socketIOServer,
+            MessageReactionService messageReactionService,
+            RecentMessageCache recentMessageCache,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.reaction.window:100ms}") Duration window,
+            @Value("${chatapp.reaction.full-map-broadcast:false}") boolean fullMapBroadcast) {
+        this.socketIOServer = socketIOServer;
+        this.messageReactionService = messageReactionService;
+        this.recentMessageCache = recentMessageCache;
+        this.fullMapBroadcast = fullMapBroadcast;
+        this.batcher = new WindowedBatcher<>(
+                "reaction", "chat.reactions", window, MessageBatch::new, this::flushBatch, meterRegistry);
+    }
+
+    /**
+     * 리액션 추가/제거를 집계에 추가
+     *
+     * @param sessionId 요청한 클라이언트 세션 (메시지가 없거나 실패하면 오류를 돌려준다)
+     * @param add true면 추가, false면 제거
+     */
+    public void submit(UUID sessionId, String messageId, String reaction, String userId, boolean add) {
+        batcher.submit(messageId, batch -> batch.add(sessionId, reaction, userId, add));
+    }
+
+    /**
+     * 메시지에 모인 리액션을 바로 내보낸다
+     */
+    void flush(String messageId) {
+        batcher.flush(messageId);
+    }
+
+    private void flushBatch(String messageId, MessageBatch batch) {
+        try {
+            Map<String, Set<String>> added = new HashMap<>();
+            Map<String, Set<String>> removed = new HashMap<>();
+            List<MessageReactionDeltaResponse.Change> changes = new ArrayList<>(batch.lastRequest.size());
+            batch.lastRequest.forEach((key, add) -> {
+                (add ? added : removed).computeIfAbsent(key.reaction(), r -> new HashSet<>()).add(key.userId());
+                changes.add(new MessageReactionDeltaResponse.Change(key.reaction(), key.userId(), add ? ADD : REMOVE));
+            });
+
+            Optional<MessageReactionService.ReactionUpdate> result =
+                    messageReactionService.applyReactions(messageId, added, removed);
+            if (result.isEmpty()) {
+                notifyError(batch, "메시지를 찾을 수 없습니다.");
+                return;
+            }
+            MessageReactionService.ReactionUpdate update = result.get();
+
+            recentMessageCache.updateReactions(update.roomId(), messageId, update.reactions());
+
+            BroadcastOperations roomOperations = socketIOServer.getRoomOperations(update.roomId());
+            roomOperations.sendEvent(MESSAGE_REACTION_DELTA, new MessageReactionDeltaResponse(messageId, changes));
+            if (fullMapBroadcast) {
+                roomOperations.sendEvent(MESSAGE_REACTION_UPDATE,
+                        new MessageReactionResponse(messageId, update.reactions()));
+            }
+        } catch (Exception e) {
+            log.error("Reaction flush error for message {}", messageId, e);
+            notifyError(batch, "리액션 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void notifyError(MessageBatch batch, String message) {
+        for (UUID sessionId : batch.sessionIds) {
+            SocketIOClient client = socketIOServer.getClient(sessionId);
+            if (client != null) {
+                client.sendEvent(ERROR, Map.of("message", message));
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batcher.close();
+    }
+
+    private record ReactionKey(String reaction, String userId) {}
+
+    /**
+     * 한 메시지에 모인 리액션 ((리액션, 사용자)별 마지막 요청과 요청한 세션)
+     */
+    private static final class MessageBatch {
+        private final Map<ReactionKey, Boolean> lastRequest = new LinkedHashMap<>();
+        private final Set<UUID> sessionIds = new HashSet<>();
+
+        void add(UUID sessionId, String reaction, String userId, boolean add) {
+            ReactionKey key = new ReactionKey(reaction, userId);
+            // 같은 사용자가 window 안에서 추가 후 제거하면 마지막 요청만 남긴다
+            lastRequest.remove(key);
+            lastRequest.put(key, add);
+            if (sessionId != null) {
+                sessionIds.add(sessionId);
+            }
+        }
+    }
+}
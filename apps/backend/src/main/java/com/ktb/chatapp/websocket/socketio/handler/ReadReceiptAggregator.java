@@ -0,0 +1,118 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessagesReadBatchResponse;
+import com.ktb.chatapp.dto.MessagesReadResponse;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import com.ktb.chatapp.websocket.socketio.batch.WindowedBatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ_BATCH;
+
+/**
+ * 방별 읽음 처리 집계기
+ * 첫 읽음 이벤트부터 window 동안 들어온 읽음 처리를 사용자별 최신 읽음 위치로 합친 뒤,
+ * 읽음 위치 bulkWrite 한 번과 MESSAGES_READ_BATCH 브로드캐스트 한 번으로 내보낸다.
+ * legacyBroadcast가 켜져 있으면 구버전 클라이언트를 위해 사용자별 MESSAGES_READ도 함께 보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadReceiptAggregator {
+
+    private final SocketIOServer socketIOServer;
+    private final MessageReadStatusService messageReadStatusService;
+    private final RecentMessageCache recentMessageCache;
+    private final boolean legacyBroadcast;
+    private final WindowedBatcher<RoomBatch> batcher;
+
+    public ReadReceiptAggregator(
+            SocketIOServer socketIOServer,
+            MessageReadStatusService messageReadStatusService,
+            RecentMessageCache recentMessageCache,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.read-receipt.window:150ms}") Duration window,
+            @Value("${chatapp.read-receipt.legacy-broadcast:false}") boolean legacyBroadcast) {
+        this.socketIOServer = socketIOServer;
+        this.messageReadStatusService = messageReadStatusService;
+        this.recentMessageCache = recentMessageCache;
+        this.legacyBroadcast = legacyBroadcast;
+        this.batcher = new WindowedBatcher<>(
+                "read-receipt", "chat.read_receipts", window, RoomBatch::new, this::flushBatch, meterRegistry);
+    }
+
+    /**
+     * 읽음 처리를 집계에 추가
+     *
+     * @param readUpTo 사용자가 읽은 메시지 중 가장 최신 메시지의 timestamp
+     * @param messageIds 읽은 메시지 ID 목록 (legacyBroadcast가 켜져 있을 때만 모은다)
+     */
+    public void submit(String roomId, String userId, LocalDateTime readUpTo, List<String> messageIds) {
+        batcher.submit(roomId, batch -> {
+            batch.add(userId, readUpTo);
+            if (legacyBroadcast) {
+                batch.addMessageIds(userId, messageIds);
+            }
+        });
+    }
+
+    /**
+     * 방에 모인 읽음 처리를 바로 내보낸다
+     */
+    void flush(String roomId) {
+        batcher.flush(roomId);
+    }
+
+    private void flushBatch(String roomId, RoomBatch batch) {
+        messageReadStatusService.markReadUpTo(roomId, batch.readUpToByUser);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MessagesReadBatchResponse.Watermark> watermarks = new ArrayList<>(batch.readUpToByUser.size());
+        batch.readUpToByUser.forEach((userId, readUpTo) -> {
+            long readUpToMillis = readUpTo.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            recentMessageCache.markReadUpTo(roomId, userId, readUpToMillis, now);
+            watermarks.add(new MessagesReadBatchResponse.Watermark(userId, readUpToMillis));
+        });
+
+        BroadcastOperations roomOperations = socketIOServer.getRoomOperations(roomId);
+        roomOperations.sendEvent(MESSAGES_READ_BATCH, new MessagesReadBatchResponse(roomId, watermarks));
+        batch.messageIdsByUser.forEach((userId, messageIds) ->
+                roomOperations.sendEvent(MESSAGES_READ, new MessagesReadResponse(userId, List.copyOf(messageIds))));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        batcher.close();
+    }
+
+    /**
+     * 한 방에 모인 읽음 처리 (사용자별 최신 읽음 위치, 구버전 브로드캐스트용 읽은 메시지 ID)
+     */
+    private static final class RoomBatch {
+        private final Map<String, LocalDateTime> readUpToByUser = new HashMap<>();
+        private final Map<String, Set<String>> messageIdsByUser = new HashMap<>();
+
+        void add(String userId, LocalDateTime readUpTo) {
+            readUpToByUser.merge(userId, readUpTo, (current, next) -> next.isAfter(current) ? next : current);
+        }
+
+        void addMessageIds(String userId, List<String> messageIds) {
+            messageIdsByUser.computeIfAbsent(userId, id -> new LinkedHashSet<>()).addAll(messageIds);
+        }
+    }
+}
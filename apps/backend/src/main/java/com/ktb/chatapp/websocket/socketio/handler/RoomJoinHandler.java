@@ -6,13 +6,19 @@ import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
+import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.service.RoomParticipantVersionService;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import com.ktb.chatapp.service.cache.RoomParticipantCache;
+import com.ktb.chatapp.service.cache.RoomParticipantListCache;
+import com.ktb.chatapp.service.cache.UserSummaryCache;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import java.time.LocalDateTime;
@@ -20,6 +26,7 @@ import java.util.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
@@ -37,11 +44,18 @@ public class RoomJoinHandler {
     private final SocketIOServer socketIOServer;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final RoomParticipantCache roomParticipantCache;
+    private final RoomParticipantListCache roomParticipantListCache;
+    private final RoomParticipantVersionService roomParticipantVersionService;
+    private final ParticipantDeltaAggregator participantDeltaAggregator;
     private final UserRooms userRooms;
     private final MessageLoader messageLoader;
     private final MessageResponseMapper messageResponseMapper;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final RecentMessageCache recentMessageCache;
+    private final RoomActivityCounter roomActivityCounter;
+    private final ApplicationEventPublisher eventPublisher;
     
     @OnEvent(JOIN_ROOM)
     public void handleJoinRoom(SocketIOClient client, String roomId) {
@@ -54,12 +68,13 @@ public class RoomJoinHandler {
                 return;
             }
             
-            if (userRepository.findById(userId).isEmpty()) {
+            Optional<UserResponse> joiningUser = userSummaryCache.get(userId);
+            if (joiningUser.isEmpty()) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
                 return;
             }
             
-            if (roomRepository.findById(roomId).isEmpty()) {
+            if (roomParticipantCache.getParticipantIds(roomId).isEmpty()) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
                 return;
             }
@@ -74,6 +89,7 @@ public class RoomJoinHandler {
 
             // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
             roomRepository.addParticipant(roomId, userId);
+            eventPublisher.publishEvent(new RoomParticipantsChangedEvent(this, roomId, userId, true));
 
             // Join socket room and add to user's room set
             client.joinRoom(roomId);
@@ -87,7 +103,6 @@ public class RoomJoinHandler {
                 .mentions(new ArrayList<>())
                 .isDeleted(false)
                 .reactions(new HashMap<>())
-                .readers(new ArrayList<>())
                 .metadata(new HashMap<>())
                 .build();
 
@@ -97,39 +112,38 @@ public class RoomJoinHandler {
             FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
             FetchMessagesResponse messageLoadResult = messageLoader.loadMessages(req, userId);
 
-            // 업데이트된 room 다시 조회하여 최신 participantIds 가져오기
-            Optional<Room> roomOpt = roomRepository.findById(roomId);
-            if (roomOpt.isEmpty()) {
+            // 순번을 목록보다 먼저 읽는다 (이후 변경분은 순번이 더 커서 클라이언트가 중복 없이 적용)
+            long participantsVersion = roomParticipantVersionService.current(roomId).orElse(0L);
+
+            // 참가자 정보 조회 (참가자 변경 이벤트로 이미 갱신된 목록, 캐시 미스 시 $in 조회 한 번)
+            Optional<List<UserResponse>> participantsOpt = roomParticipantListCache.getParticipants(roomId);
+            if (participantsOpt.isEmpty()) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
                 return;
             }
-
-            // 참가자 정보 조회
-            List<UserResponse> participants = roomOpt.get().getParticipantIds()
-                    .stream()
-                    .map(userRepository::findById)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(UserResponse::from)
-                    .toList();
+            List<UserResponse> participants = participantsOpt.get();
             
             JoinRoomSuccessResponse response = JoinRoomSuccessResponse.builder()
                 .roomId(roomId)
                 .participants(participants)
+                .participantsVersion(participantsVersion)
                 .messages(messageLoadResult.getMessages())
                 .hasMore(messageLoadResult.isHasMore())
+                .nextCursor(messageLoadResult.getNextCursor())
                 .activeStreams(Collections.emptyList())
                 .build();
 
             client.sendEvent(JOIN_ROOM_SUCCESS, response);
 
             // 입장 메시지 브로드캐스트
+            MessageResponse joinMessageResponse = messageResponseMapper.mapToMessageResponse(joinMessage, null);
             socketIOServer.getRoomOperations(roomId)
-                .sendEvent(MESSAGE, messageResponseMapper.mapToMessageResponse(joinMessage, null));
+                .sendEvent(MESSAGE, joinMessageResponse);
+            recentMessageCache.append(joinMessageResponse);
+            roomActivityCounter.record(roomId);
 
-            // 참가자 목록 업데이트 브로드캐스트
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participants);
+            // 입장 참가자는 방 단위로 모아서 변경분만 브로드캐스트
+            participantDeltaAggregator.submitJoined(roomId, joiningUser.get());
 
             log.info("User {} joined room {} successfully. Message count: {}, hasMore: {}",
                 userName, roomId, messageLoadResult.getMessages().size(), messageLoadResult.isHasMore());
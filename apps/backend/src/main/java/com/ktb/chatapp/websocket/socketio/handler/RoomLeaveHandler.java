@@ -4,31 +4,32 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageResponse;
-import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import com.ktb.chatapp.service.cache.RoomParticipantCache;
+import com.ktb.chatapp.service.cache.UserSummaryCache;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 
 /**
  * 방 퇴장 처리 핸들러
- * 채팅방 퇴장, 스트리밍 세션 종료, 참가자 목록 업데이트 담당
+ * 채팅방 퇴장, 스트리밍 세션 종료, 참가자 퇴장 알림 담당
  */
 @Slf4j
 @Component
@@ -39,9 +40,14 @@ public class RoomLeaveHandler {
     private final SocketIOServer socketIOServer;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final RoomParticipantCache roomParticipantCache;
+    private final ParticipantDeltaAggregator participantDeltaAggregator;
     private final UserRooms userRooms;
     private final MessageResponseMapper messageResponseMapper;
+    private final RecentMessageCache recentMessageCache;
+    private final RoomActivityCounter roomActivityCounter;
+    private final ApplicationEventPublisher eventPublisher;
     
     @OnEvent(LEAVE_ROOM)
     public void handleLeaveRoom(SocketIOClient client, String roomId) {
@@ -59,25 +65,23 @@ public class RoomLeaveHandler {
                 return;
             }
 
-            User user = userRepository.findById(userId).orElse(null);
-            Room room = roomRepository.findById(roomId).orElse(null);
-            
-            if (user == null || room == null) {
+            if (userSummaryCache.get(userId).isEmpty() || roomParticipantCache.getParticipantIds(roomId).isEmpty()) {
                 log.warn("Room {} not found or user {} has no access", roomId, userId);
                 return;
             }
             
             roomRepository.removeParticipant(roomId, userId);
+            eventPublisher.publishEvent(new RoomParticipantsChangedEvent(this, roomId, userId, false));
             
             client.leaveRoom(roomId);
             userRooms.remove(userId, roomId);
             
-            log.info("User {} left room {}", userName, room.getName());
+            log.info("User {} left room {}", userName, roomId);
             
             log.debug("Leave room cleanup - roomId: {}, userId: {}", roomId, userId);
             
             sendSystemMessage(roomId, userName + "님이 퇴장하였습니다.");
-            broadcastParticipantList(roomId);
+            participantDeltaAggregator.submitLeft(roomId, userId);
             socketIOServer.getRoomOperations(roomId)
                     .sendEvent(USER_LEFT, Map.of(
                             "userId", userId,
@@ -100,7 +104,6 @@ public class RoomLeaveHandler {
             systemMessage.setMentions(new ArrayList<>());
             systemMessage.setIsDeleted(false);
             systemMessage.setReactions(new HashMap<>());
-            systemMessage.setReaders(new ArrayList<>());
             systemMessage.setMetadata(new HashMap<>());
 
             Message savedMessage = messageRepository.save(systemMessage);
@@ -108,35 +111,14 @@ public class RoomLeaveHandler {
 
             socketIOServer.getRoomOperations(roomId)
                     .sendEvent(MESSAGE, response);
+            recentMessageCache.append(response);
+            roomActivityCounter.record(roomId);
 
         } catch (Exception e) {
             log.error("Error sending system message", e);
         }
     }
     
-    private void broadcastParticipantList(String roomId) {
-        Optional<Room> roomOpt = roomRepository.findById(roomId);
-        if (roomOpt.isEmpty()) {
-            return;
-        }
-        
-        var participantList = roomOpt.get()
-                .getParticipantIds()
-                .stream()
-                .map(userRepository::findById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(UserResponse::from)
-                .toList();
-        
-        if (participantList.isEmpty()) {
-            return;
-        }
-        
-        socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participantList);
-    }
-
     private SocketUser getUserDto(SocketIOClient client) {
         return client.get("user");
     }
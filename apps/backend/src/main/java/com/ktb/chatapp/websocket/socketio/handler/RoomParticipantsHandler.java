@@ -0,0 +1,70 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.ParticipantsSnapshotResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.service.RoomParticipantVersionService;
+import com.ktb.chatapp.service.cache.RoomParticipantCache;
+import com.ktb.chatapp.service.cache.RoomParticipantListCache;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 참가자 목록 스냅샷 처리 핸들러
+ * 참가자 변경 순번이 건너뛴 클라이언트에게 전체 목록과 현재 순번을 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomParticipantsHandler {
+
+    private final RoomParticipantCache roomParticipantCache;
+    private final RoomParticipantListCache roomParticipantListCache;
+    private final RoomParticipantVersionService roomParticipantVersionService;
+
+    @OnEvent(GET_PARTICIPANTS)
+    public void handleGetParticipants(SocketIOClient client, String roomId) {
+        try {
+            String userId = getUserId(client);
+            if (userId == null) {
+                client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+                return;
+            }
+
+            if (!roomParticipantCache.isParticipant(roomId, userId)) {
+                client.sendEvent(ERROR, Map.of("message", "채팅방 접근 권한이 없습니다."));
+                return;
+            }
+
+            // 순번을 목록보다 먼저 읽는다 (이후 변경분은 순번이 더 커서 클라이언트가 중복 없이 적용)
+            OptionalLong version = roomParticipantVersionService.current(roomId);
+            List<UserResponse> participants = roomParticipantListCache.getParticipants(roomId).orElse(null);
+            if (version.isEmpty() || participants == null) {
+                client.sendEvent(ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
+                return;
+            }
+
+            client.sendEvent(PARTICIPANTS_SNAPSHOT,
+                    new ParticipantsSnapshotResponse(roomId, version.getAsLong(), participants));
+
+        } catch (Exception e) {
+            log.error("Error handling getParticipants", e);
+            client.sendEvent(ERROR, Map.of("message", "참가자 목록을 불러오는 중 오류가 발생했습니다."));
+        }
+    }
+
+    private String getUserId(SocketIOClient client) {
+        SocketUser user = client.get("user");
+        return user != null ? user.id() : null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.dto.MessagesSyncResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 재접속 시 방 재입장 처리
+ * 입장 처리(참가자 저장, 입장 메시지, 초기 메시지 로드)를 반복하지 않고 소켓을 방에 다시 구독한 뒤,
+ * 클라이언트가 handshake로 알려준 마지막 메시지 이후의 메시지만 MESSAGES_SYNCED로 보낸다.
+ * <p>
+ * 노드 재시작 직후처럼 재접속이 몰리면 동기화 조회를 maxConcurrent개로 제한하고,
+ * 대기가 maxPending을 넘으면 조회 없이 truncated로 응답해 클라이언트가 보고 있는 방만 다시 불러오게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomRejoinHandler {
+
+    private final MessageLoader messageLoader;
+    private final int syncLimit;
+    private final int maxPending;
+
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ExecutorService executor;
+
+    private final Timer latencyTimer;
+    private final Counter roomCounter;
+    private final Counter shedCounter;
+
+    public RoomRejoinHandler(
+            MessageLoader messageLoader,
+            MeterRegistry meterRegistry,
+            @Value("${chatapp.rejoin.max-concurrent:16}") int maxConcurrent,
+            @Value("${chatapp.rejoin.max-pending:5000}") int maxPending,
+            @Value("${chatapp.rejoin.sync-limit:50}") int syncLimit) {
+        this.messageLoader = messageLoader;
+        this.syncLimit = syncLimit;
+        this.maxPending = maxPending;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("room-rejoin-", 0).factory());
+
+        this.latencyTimer = Timer.builder("chat.rejoin.latency")
+                .description("Time from reconnect to the last missed-message sync sent")
+                .register(meterRegistry);
+        this.roomCounter = Counter.builder("chat.rejoin.rooms")
+                .description("Rooms re-subscribed on reconnect")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder("chat.rejoin.shed")
+                .description("Reconnects answered with truncated syncs because too many were pending")
+                .register(meterRegistry);
+        Gauge.builder("chat.rejoin.pending", pending, AtomicInteger::get)
+                .description("Reconnects waiting for or running a missed-message sync")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 소켓을 참여 중인 방에 다시 구독하고 놓친 메시지 동기화를 예약
+     *
+     * @param roomIds 사용자가 참여 중인 방
+     * @param lastSeen 방 ID별 클라이언트가 마지막으로 받은 메시지 ID (참여 중인 방만 동기화)
+     */
+    public void rejoin(SocketIOClient client, Set<String> roomIds, Map<String, String> lastSeen) {
+        long startedAt = System.nanoTime();
+        client.joinRooms(roomIds);
+        roomCounter.increment(roomIds.size());
+
+        Map<String, String> toSync = new LinkedHashMap<>();
+        lastSeen.forEach((roomId, messageId) -> {
+            if (roomIds.contains(roomId)) {
+                toSync.put(roomId, messageId);
+            }
+        });
+        if (toSync.isEmpty()) {
+            latencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            shed(client, toSync);
+            return;
+        }
+        try {
+            executor.execute(() -> sync(client, toSync, startedAt));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            shed(client, toSync);
+        }
+    }
+
+    private void sync(SocketIOClient client, Map<String, String> toSync, long startedAt) {
+        try {
+            permits.acquire();
+            try {
+                toSync.forEach((roomId, messageId) -> {
+                    if (client.isChannelOpen()) {
+                        client.sendEvent(MESSAGES_SYNCED, messageLoader.loadSince(roomId, messageId, syncLimit));
+                    }
+                });
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Missed message sync error for client {}", client.getSessionId(), e);
+        } finally {
+            pending.decrementAndGet();
+            latencyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void shed(SocketIOClient client, Map<String, String> toSync) {
+        shedCounter.increment();
+        toSync.keySet().forEach(roomId -> client.sendEvent(MESSAGES_SYNCED,
+                new MessagesSyncResponse(roomId, List.of(), true)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
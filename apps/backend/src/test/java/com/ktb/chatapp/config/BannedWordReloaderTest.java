@@ -0,0 +1,91 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.util.BannedWordChecker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BannedWordReloaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dictionary;
+    private SimpleMeterRegistry meterRegistry;
+    private BannedWordChecker checker;
+    private BannedWordReloader reloader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dictionary = tempDir.resolve("banned.txt");
+        Files.writeString(dictionary, "apple\nbanana\n");
+        meterRegistry = new SimpleMeterRegistry();
+        checker = new BannedWordChecker(Set.of("apple", "banana"));
+        reloader = new BannedWordReloader(checker, new DefaultResourceLoader(), meterRegistry,
+                dictionary.toUri().toString(), false, Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reloader.stop();
+    }
+
+    @Test
+    @DisplayName("reload는 새 사전으로 교체하고 크기와 빌드 시간 지표를 남긴다")
+    void reload_swapsInNewDictionary() throws Exception {
+        Files.writeString(dictionary, "cherry\ndurian\nelderberry\n");
+
+        assertThat(reloader.reload().get(5, TimeUnit.SECONDS)).isEqualTo(3);
+
+        assertThat(checker.containsBannedWord("I like cherry")).isTrue();
+        assertThat(checker.containsBannedWord("I like apple")).isFalse();
+        assertThat(meterRegistry.get("banned_words.dictionary.size").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("banned_words.dictionary.build.time").timer().count()).isEqualTo(1);
+        assertThat(reloader.lastReloadedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("빈 사전으로 reload하면 실패하고 이전 사전을 유지한다")
+    void reload_keepsPreviousDictionaryOnFailure() throws Exception {
+        Files.writeString(dictionary, "\n  \n");
+
+        assertThatThrownBy(() -> reloader.reload().get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(checker.containsBannedWord("apple pie")).isTrue();
+        assertThat(checker.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("banned_words.dictionary.reload.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파일 변경을 감지하면 자동으로 reload한다")
+    void watch_reloadsOnFileChange() throws Exception {
+        reloader.stop();
+        reloader = new BannedWordReloader(checker, new DefaultResourceLoader(), new SimpleMeterRegistry(),
+                dictionary.toUri().toString(), true, Duration.ofMillis(50));
+        reloader.start();
+
+        Files.writeString(dictionary, "fig\n");
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!checker.containsBannedWord("fig") && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(checker.containsBannedWord("fresh fig")).isTrue();
+        assertThat(checker.containsBannedWord("apple")).isFalse();
+    }
+}
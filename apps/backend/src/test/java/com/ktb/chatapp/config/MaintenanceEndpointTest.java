@@ -0,0 +1,67 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.service.MessageIndexCleanup;
+import com.ktb.chatapp.service.ReadWatermarkMigration;
+import com.ktb.chatapp.service.RoomParticipantCountBackfill;
+import com.ktb.chatapp.service.RoomSearchIndexBackfill;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaintenanceEndpointTest {
+
+    @Mock private BannedWordReloader bannedWordReloader;
+    @Mock private ReadWatermarkMigration readWatermarkMigration;
+    @Mock private RoomParticipantCountBackfill roomParticipantCountBackfill;
+    @Mock private RoomSearchIndexBackfill roomSearchIndexBackfill;
+    @Mock private MessageIndexCleanup messageIndexCleanup;
+
+    private MaintenanceEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new MaintenanceEndpoint(bannedWordReloader, readWatermarkMigration,
+                roomParticipantCountBackfill, roomSearchIndexBackfill, messageIndexCleanup);
+    }
+
+    @Test
+    @DisplayName("작업을 실행하면 200과 결과를 응답한다")
+    void run_returnsResult() {
+        when(roomSearchIndexBackfill.backfill()).thenReturn(3L);
+
+        WebEndpointResponse<?> response = endpoint.run("roomsearchindex");
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(response.getBody()).isEqualTo(Map.of("job", "roomsearchindex", "status", "completed", "rooms", 3L));
+    }
+
+    @Test
+    @DisplayName("없는 작업은 404로 응답한다")
+    void run_unknownJobIsNotFound() {
+        assertThat(endpoint.run("roomsearch").getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        verifyNoInteractions(roomSearchIndexBackfill);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 원인 메시지와 함께 500으로 응답한다")
+    void run_failedJobIsServerError() {
+        when(bannedWordReloader.reload())
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("missing file")));
+
+        WebEndpointResponse<?> response = endpoint.run("bannedwords");
+
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody()).isEqualTo(
+                Map.of("job", "bannedwords", "status", "failed", "error", "missing file"));
+    }
+}
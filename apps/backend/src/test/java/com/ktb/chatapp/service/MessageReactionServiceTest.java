@@ -0,0 +1,105 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.MessageRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = "socketio.enabled=false")
+class MessageReactionServiceTest {
+
+    @Autowired
+    private MessageReactionService messageReactionService;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+    }
+
+    private String saveMessage() {
+        Message message = new Message();
+        message.setRoomId("room-1");
+        message.setContent("hello");
+        message.setType(MessageType.text);
+        message.setTimestamp(LocalDateTime.now());
+        return messageRepository.save(message).getId();
+    }
+
+    @Test
+    @DisplayName("동시에 추가한 리액션이 유실되지 않고 room과 reactions를 돌려준다")
+    void addReaction_keepsConcurrentUpdates() {
+        String messageId = saveMessage();
+        List<String> userIds = IntStream.range(0, 50).mapToObj(i -> "user-" + i).toList();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(userIds.stream()
+                    .map(userId -> CompletableFuture.runAsync(
+                            () -> messageReactionService.addReaction(messageId, "👍", userId), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        var update = messageReactionService.addReaction(messageId, "👍", "user-0").orElseThrow();
+        assertThat(update.roomId()).isEqualTo("room-1");
+        assertThat(update.reactions().get("👍")).containsExactlyInAnyOrderElementsOf(userIds);
+        assertThat(messageRepository.findById(messageId).orElseThrow().getReactions().get("👍"))
+                .hasSize(userIds.size());
+    }
+
+    @Test
+    @DisplayName("마지막 사용자가 리액션을 제거하면 리액션 키도 사라진다")
+    void removeReaction_unsetsEmptyReaction() {
+        String messageId = saveMessage();
+        messageReactionService.addReaction(messageId, "👍", "user-1");
+        messageReactionService.addReaction(messageId, "🎉", "user-1");
+
+        var update = messageReactionService.removeReaction(messageId, "👍", "user-1").orElseThrow();
+
+        assertThat(update.reactions()).containsOnlyKeys("🎉");
+        assertThat(messageRepository.findById(messageId).orElseThrow().getReactions()).containsOnlyKeys("🎉");
+    }
+
+    @Test
+    @DisplayName("모아 둔 추가와 제거를 함께 적용한다")
+    void applyReactions_appliesAddsAndRemovesTogether() {
+        String messageId = saveMessage();
+        messageReactionService.addReaction(messageId, "👍", "user-1");
+        messageReactionService.addReaction(messageId, "🎉", "user-1");
+
+        var update = messageReactionService.applyReactions(messageId,
+                Map.of("👍", Set.of("user-2", "user-3")),
+                Map.of("👍", Set.of("user-1"), "🎉", Set.of("user-1"))).orElseThrow();
+
+        assertThat(update.reactions()).containsOnlyKeys("👍");
+        assertThat(update.reactions().get("👍")).containsExactlyInAnyOrder("user-2", "user-3");
+        assertThat(messageRepository.findById(messageId).orElseThrow().getReactions())
+                .containsOnlyKeys("👍");
+    }
+
+    @Test
+    @DisplayName("없는 메시지는 empty")
+    void addReaction_missingMessage() {
+        assertThat(messageReactionService.addReaction(new ObjectId().toHexString(), "👍", "user-1")).isEmpty();
+    }
+}
@@ -0,0 +1,170 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.ReadWatermark;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.ReadWatermarkRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = "socketio.enabled=false")
+class MessageReadStatusServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @Autowired
+    private MessageReadStatusService messageReadStatusService;
+
+    @Autowired
+    private ReadWatermarkMigration readWatermarkMigration;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ReadWatermarkRepository readWatermarkRepository;
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        readWatermarkRepository.deleteAll();
+    }
+
+    private List<Message> saveMessages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Message message = new Message();
+                    message.setRoomId("room-1");
+                    message.setContent("message " + i);
+                    message.setType(MessageType.text);
+                    message.setTimestamp(BASE_TIME.plusSeconds(i));
+                    return messageRepository.save(message);
+                })
+                .toList();
+    }
+
+    private List<String> idsOf(List<Message> messages) {
+        return messages.stream().map(Message::getId).toList();
+    }
+
+    @Test
+    @DisplayName("읽음 위치는 가장 최신 메시지까지 전진하고 이전 페이지를 읽어도 뒤로 가지 않는다")
+    void markRead_advancesWatermarkMonotonically() {
+        List<Message> messages = saveMessages(5);
+
+        assertThat(messageReadStatusService.findReadPosition(idsOf(messages.subList(0, 4))))
+                .contains(new MessageReadStatusService.ReadPosition("room-1", messages.get(3).getTimestamp()));
+        markRead(idsOf(messages.subList(0, 4)), "user-1");
+        markRead(idsOf(messages.subList(0, 2)), "user-1");
+
+        assertThat(readWatermarkRepository.findByRoomId("room-1")).singleElement()
+                .extracting(ReadWatermark::getLastReadAt)
+                .isEqualTo(messages.get(3).getTimestamp());
+
+        ReadWatermarks watermarks = messageReadStatusService.findWatermarks("room-1", BASE_TIME);
+        assertThat(messages).extracting(message -> watermarks.readersOf(message).size())
+                .containsExactly(1, 1, 1, 1, 0);
+        assertThat(messageRepository.findAllById(idsOf(messages)))
+                .allSatisfy(message -> assertThat(message.getReaders()).isNull());
+    }
+
+    @Test
+    @DisplayName("동시에 읽은 사용자마다 읽음 위치가 하나씩 생긴다")
+    void markRead_keepsConcurrentReaders() {
+        List<String> messageIds = idsOf(saveMessages(10));
+        List<String> userIds = IntStream.range(0, 20).mapToObj(i -> "user-" + i).toList();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(userIds.stream()
+                    .map(userId -> CompletableFuture.runAsync(
+                            () -> markRead(messageIds, userId), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+
+        assertThat(readWatermarkRepository.findByRoomId("room-1"))
+                .extracting(ReadWatermark::getUserId)
+                .containsExactlyInAnyOrderElementsOf(userIds);
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 읽음 위치를 한 번에 전진한다")
+    void markReadUpTo_appliesBatchPerUser() {
+        List<Message> messages = saveMessages(3);
+        markRead(idsOf(messages), "user-1");
+
+        messageReadStatusService.markReadUpTo("room-1", Map.of(
+                "user-1", messages.get(0).getTimestamp(),
+                "user-2", messages.get(1).getTimestamp()));
+
+        assertThat(readWatermarkRepository.findByRoomId("room-1"))
+                .extracting(ReadWatermark::getUserId, ReadWatermark::getLastReadAt)
+                .containsExactlyInAnyOrder(
+                        tuple("user-1", messages.get(2).getTimestamp()),
+                        tuple("user-2", messages.get(1).getTimestamp()));
+    }
+
+    @Test
+    @DisplayName("페이지의 가장 오래된 메시지보다 앞선 읽음 위치는 조회하지 않는다")
+    void findWatermarks_skipsReadersBeforePage() {
+        List<Message> messages = saveMessages(5);
+        markRead(idsOf(messages.subList(0, 1)), "user-1");
+        markRead(idsOf(messages.subList(0, 4)), "user-2");
+
+        ReadWatermarks watermarks = messageReadStatusService.findWatermarks("room-1", messages.get(2).getTimestamp());
+
+        assertThat(messages.subList(2, 5)).extracting(message -> watermarks.readersOf(message).size())
+                .containsExactly(1, 1, 0);
+        assertThat(watermarks.readersOf(messages.get(0))).extracting(Message.MessageReader::getUserId)
+                .containsExactly("user-2");
+    }
+
+    @Test
+    @DisplayName("마이그레이션은 기존 readers를 읽음 위치로 옮기고 readers를 제거한다")
+    void migrate_convertsLegacyReaders() {
+        List<Message> messages = new ArrayList<>(saveMessages(3));
+        messages.get(0).setReaders(List.of(reader("user-1"), reader("user-2")));
+        messages.get(1).setReaders(List.of(reader("user-1")));
+        messageRepository.saveAll(messages);
+
+        ReadWatermarkMigration.Result result = readWatermarkMigration.migrate();
+
+        assertThat(result.watermarks()).isEqualTo(2);
+        assertThat(result.messagesCleared()).isEqualTo(2);
+        ReadWatermarks watermarks = messageReadStatusService.findWatermarks("room-1", BASE_TIME);
+        List<Message> migrated = messageRepository.findAllById(idsOf(messages)).stream()
+                .sorted((a, b) -> a.getTimestamp().compareTo(b.getTimestamp()))
+                .toList();
+        assertThat(migrated).extracting(message -> watermarks.readersOf(message).size())
+                .containsExactly(2, 1, 0);
+        assertThat(migrated).allSatisfy(message -> assertThat(message.getReaders()).isNull());
+    }
+
+    private void markRead(List<String> messageIds, String userId) {
+        messageReadStatusService.markReadUpTo("room-1", userId,
+                messageReadStatusService.findReadPosition(messageIds).orElseThrow().readUpTo());
+    }
+
+    private Message.MessageReader reader(String userId) {
+        return Message.MessageReader.builder().userId(userId).readAt(BASE_TIME).build();
+    }
+}
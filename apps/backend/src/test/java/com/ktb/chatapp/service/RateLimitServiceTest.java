@@ -17,7 +17,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest
 @Import(MongoTestContainer.class)
 @TestPropertySource(properties = {
-        "socketio.enabled=false"
+        "socketio.enabled=false",
+        "chatapp.rate-limit.store=mongo"
 })
 @DisplayName("RateLimitService 통합 테스트")
 class RateLimitServiceTest {
@@ -0,0 +1,183 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = "socketio.enabled=false")
+class RoomActivityCounterTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    // 컨텍스트의 카운터가 주기적으로 sweep하므로 실제 시각에서 시작한다
+    private final MutableClock clock = new MutableClock(System.currentTimeMillis());
+    private RoomActivityCounter node1;
+    private RoomActivityCounter node2;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트에서는 flush를 직접 호출하도록 주기를 길게 둔다
+        node1 = node();
+        node2 = node();
+        Room room = new Room();
+        room.setName("room");
+        roomId = roomRepository.save(room).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        node1.shutdown();
+        node2.shutdown();
+        roomRepository.deleteAll();
+    }
+
+    private RoomActivityCounter node() {
+        return new RoomActivityCounter(
+                mongoTemplate, new SimpleMeterRegistry(), Duration.ofHours(1), Duration.ofHours(1), clock);
+    }
+
+    private Room reload() {
+        return roomRepository.findById(roomId).orElseThrow();
+    }
+
+    private void recordTimes(RoomActivityCounter counter, int times) {
+        for (int i = 0; i < times; i++) {
+            counter.record(roomId);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 노드가 같은 분에 기록한 증가분을 합산한다")
+    void flush_sumsIncrementsFromNodes() {
+        recordTimes(node1, 3);
+        recordTimes(node2, 2);
+        node1.flush();
+        node2.flush();
+        recordTimes(node1, 1);
+        node1.flush();
+
+        Room room = reload();
+        assertThat(room.getRecentMessageCount()).isEqualTo(6);
+        assertThat(node1.recentMessageCount(room)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("구간을 벗어난 분은 세지 않고 recentMessageCount도 0으로 내려간다")
+    void flush_decaysAfterWindow() {
+        recordTimes(node1, 4);
+        node1.flush();
+
+        clock.advance(Duration.ofMinutes(5));
+        recordTimes(node1, 1);
+        node1.flush();
+        assertThat(reload().getRecentMessageCount()).isEqualTo(5);
+
+        clock.advance(Duration.ofMinutes(RoomActivityCounter.WINDOW_MINUTES - 4));
+        node1.flush();
+        assertThat(reload().getRecentMessageCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(5));
+        node1.flush();
+        Room room = reload();
+        assertThat(room.getRecentMessageCount()).isZero();
+        assertThat(node1.recentMessageCount(room)).isZero();
+    }
+
+    @Test
+    @DisplayName("슬롯이 다시 쓰여도 이전 분의 값은 남지 않는다")
+    void flush_reusesSlotsForNewMinutes() {
+        recordTimes(node1, 7);
+        node1.flush();
+
+        clock.advance(Duration.ofMinutes(RoomActivityCounter.SLOTS));
+        recordTimes(node1, 2);
+        node1.flush();
+
+        Room room = reload();
+        assertThat(room.getActivity()).hasSize(1);
+        assertThat(room.getRecentMessageCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시작으로 링을 잃은 방도 구간이 지나면 sweep이 0으로 내린다")
+    void sweep_recomputesRoomsWithoutRing() {
+        recordTimes(node1, 4);
+        node1.flush();
+        Room active = new Room();
+        active.setName("active");
+        String activeId = roomRepository.save(active).getId();
+
+        // node1이 링을 잃고 재시작한 상황: 새 인스턴스는 이 방을 flush하지 않는다
+        RoomActivityCounter restarted = node();
+        try {
+            clock.advance(Duration.ofMinutes(RoomActivityCounter.WINDOW_MINUTES + 1));
+            restarted.record(activeId);
+            restarted.flush();
+            assertThat(reload().getRecentMessageCount()).isEqualTo(4);
+
+            assertThat(restarted.sweep()).isEqualTo(1);
+            assertThat(reload().getRecentMessageCount()).isZero();
+            assertThat(roomRepository.findById(activeId).orElseThrow().getRecentMessageCount()).isEqualTo(1);
+            assertThat(restarted.sweep()).isZero();
+        } finally {
+            restarted.shutdown();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis;
+
+        MutableClock(long millis) {
+            this.millis = new AtomicLong(millis);
+        }
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
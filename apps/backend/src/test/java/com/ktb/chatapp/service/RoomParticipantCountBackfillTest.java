@@ -0,0 +1,94 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = "socketio.enabled=false")
+class RoomParticipantCountBackfillTest {
+
+    @Autowired
+    private RoomParticipantCountBackfill backfill;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        roomRepository.deleteAll();
+    }
+
+    private String saveRoom(String... participantIds) {
+        Room room = new Room();
+        room.setName("room");
+        room.setParticipantIds(new HashSet<>(List.of(participantIds)));
+        room.setParticipantsCount(participantIds.length);
+        return roomRepository.save(room).getId();
+    }
+
+    private int participantsCount(String roomId) {
+        return roomRepository.findById(roomId).orElseThrow().getParticipantsCount();
+    }
+
+    @Test
+    @DisplayName("참가자 추가/제거는 실제로 바뀐 경우에만 participantsCount를 바꾼다")
+    void addAndRemoveParticipant_keepCounterInSync() {
+        String roomId = saveRoom("user-1");
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(IntStream.range(0, 20)
+                    .mapToObj(i -> CompletableFuture.runAsync(
+                            () -> roomRepository.addParticipant(roomId, "user-" + (i % 10)), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        }
+        roomRepository.removeParticipant(roomId, "user-3");
+        roomRepository.removeParticipant(roomId, "user-3");
+        roomRepository.removeParticipant(roomId, "missing");
+
+        Room room = roomRepository.findById(roomId).orElseThrow();
+        assertThat(room.getParticipantIds()).hasSize(9);
+        assertThat(room.getParticipantsCount()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("카운터가 없거나 틀린 방만 participantIds 크기로 다시 채운다")
+    void backfill_recountsMismatchedRooms() {
+        String legacy = saveRoom("user-1", "user-2", "user-3");
+        String wrong = saveRoom("user-1", "user-2");
+        String correct = saveRoom("user-1");
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(legacy)),
+                new Update().unset("participantsCount"), Room.class);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(wrong)),
+                new Update().set("participantsCount", 7), Room.class);
+
+        assertThat(backfill.backfill()).isEqualTo(2);
+        assertThat(backfill.backfill()).isZero();
+
+        assertThat(participantsCount(legacy)).isEqualTo(3);
+        assertThat(participantsCount(wrong)).isEqualTo(2);
+        assertThat(participantsCount(correct)).isEqualTo(1);
+    }
+}
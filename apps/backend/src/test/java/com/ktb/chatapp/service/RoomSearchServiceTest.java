@@ -0,0 +1,141 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = "socketio.enabled=false")
+class RoomSearchServiceTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.now();
+
+    @Autowired
+    private RoomSearchService roomSearchService;
+
+    @Autowired
+    private RoomSearchIndexBackfill roomSearchIndexBackfill;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        roomRepository.deleteAll();
+    }
+
+    private Room saveRoom(String name) {
+        Room room = new Room();
+        room.setName(name);
+        room.setCreatedAt(BASE_TIME.plusSeconds(sequence.incrementAndGet()));
+        return roomRepository.save(room);
+    }
+
+    private Page<Room> search(String query, int page, int size) {
+        return roomSearchService.search(query, PageRequest.of(page, size)).page();
+    }
+
+    @Test
+    @DisplayName("완전 일치, 이름 시작, 단어 시작, 포함 순으로 정렬한다")
+    void search_ordersByRelevance() {
+        saveRoom("우리 스터디 모임");
+        saveRoom("스터디");
+        saveRoom("알고리즘스터디");
+        saveRoom("스터디 카페");
+        saveRoom("산책 모임");
+
+        assertThat(search("스터디", 0, 10)).extracting(Room::getName)
+                .containsExactly("스터디", "스터디 카페", "우리 스터디 모임", "알고리즘스터디");
+    }
+
+    @Test
+    @DisplayName("대소문자와 전각 문자를 구분하지 않고 n-gram만 겹치는 이름은 제외한다")
+    void search_matchesNormalizedSubstringsOnly() {
+        saveRoom("KTB Chat");
+        saveRoom("chat-ops");
+        saveRoom("cha t");
+
+        assertThat(search("ＣＨＡＴ", 0, 10)).extracting(Room::getName)
+                .containsExactlyInAnyOrder("KTB Chat", "chat-ops");
+        assertThat(search("   ", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관련도가 같으면 짧은 이름, 최신순으로 페이지를 나눈다")
+    void search_paginates() {
+        for (int i = 0; i < 5; i++) {
+            saveRoom("방 " + i);
+        }
+
+        Page<Room> first = search("방", 0, 2);
+        Page<Room> last = search("방", 2, 2);
+
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(first.getContent()).extracting(Room::getName).containsExactly("방 4", "방 3");
+        assertThat(last.getContent()).extracting(Room::getName).containsExactly("방 0");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("후보 수를 넘는 최신 방이 있어도 오래된 완전 일치/이름 시작 방을 찾고 전체 수는 하한으로 알린다")
+    void search_keepsOldPrefixMatchesBeyondCandidateLimit() {
+        saveRoom("스터디");
+        saveRoom("스터디 카페");
+        for (int i = 0; i < 3; i++) {
+            saveRoom("우리 스터디 " + i);
+        }
+        RoomSearchService limited = new RoomSearchService(mongoTemplate, 2);
+
+        RoomSearchService.SearchResult result = limited.search("스터디", PageRequest.of(0, 10));
+
+        assertThat(result.page().getContent()).extracting(Room::getName)
+                .containsExactly("스터디", "스터디 카페", "우리 스터디 2", "우리 스터디 1");
+        assertThat(result.totalLowerBound()).isTrue();
+        assertThat(roomSearchService.search("스터디", PageRequest.of(0, 10)).totalLowerBound()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정규식 메타 문자가 들어간 검색어도 이름 시작으로 찾는다")
+    void search_escapesRegexInPrefixQuery() {
+        saveRoom("c++ 스터디");
+        saveRoom("cpp 스터디");
+
+        assertThat(search("c++", 0, 10)).extracting(Room::getName).containsExactly("c++ 스터디");
+    }
+
+    @Test
+    @DisplayName("검색 필드가 없는 기존 방을 색인한다")
+    void backfill_indexesLegacyRooms() {
+        Room legacy = saveRoom("Legacy Room");
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(legacy.getId())),
+                new Update().unset("searchName").unset("searchGrams"), Room.class);
+        assertThat(search("legacy", 0, 10)).isEmpty();
+
+        assertThat(roomSearchIndexBackfill.backfill()).isPositive();
+
+        assertThat(search("legacy", 0, 10)).extracting(Room::getId).containsExactly(legacy.getId());
+    }
+}
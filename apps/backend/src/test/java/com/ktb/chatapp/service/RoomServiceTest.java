@@ -0,0 +1,163 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.dto.PageRequest;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import({MongoTestContainer.class, RoomServiceTest.QueryCounterConfig.class})
+@TestPropertySource(properties = "socketio.enabled=false")
+class RoomServiceTest {
+
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "aggregate", "count");
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class QueryCounterConfig {
+
+        @Bean
+        QueryCounter queryCounter() {
+            return new QueryCounter();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer queryCounterCustomizer(QueryCounter queryCounter) {
+            return builder -> builder.addCommandListener(queryCounter);
+        }
+    }
+
+    static class QueryCounter implements CommandListener {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (QUERY_COMMANDS.contains(event.getCommandName())) {
+                count.incrementAndGet();
+            }
+        }
+
+        int reset() {
+            return count.getAndSet(0);
+        }
+    }
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomActivityCounter roomActivityCounter;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @AfterEach
+    void tearDown() {
+        roomRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private void saveRooms(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        IntStream.range(0, count).forEach(i -> {
+            User creator = userRepository.save(User.builder()
+                    .name("creator-" + i).email("creator-" + i + "@example.com").build());
+            User participant = userRepository.save(User.builder()
+                    .name("participant-" + i).email("participant-" + i + "@example.com").build());
+
+            Room room = new Room();
+            room.setName("room-" + i);
+            room.setCreator(creator.getId());
+            room.setParticipantIds(new HashSet<>(List.of(creator.getId(), participant.getId())));
+            room.setCreatedAt(now.minusSeconds(i));
+            room = roomRepository.save(room);
+
+            for (int m = 0; m < i % 3; m++) {
+                roomActivityCounter.record(room.getId());
+            }
+        });
+        roomActivityCounter.flush();
+    }
+
+    private RoomsResponse firstPage(int pageSize) {
+        PageRequest pageRequest = new PageRequest();
+        pageRequest.setPageSize(pageSize);
+        queryCounter.reset();
+        return roomService.getAllRoomsWithPagination(pageRequest, "creator-0@example.com");
+    }
+
+    @Test
+    @DisplayName("방 목록 페이지는 방 수와 관계없이 일정한 수의 쿼리로 만든다")
+    void getAllRoomsWithPagination_usesConstantQueriesPerPage() {
+        saveRooms(40);
+
+        RoomsResponse small = firstPage(2);
+        int smallQueries = queryCounter.reset();
+        RoomsResponse large = firstPage(30);
+        int largeQueries = queryCounter.reset();
+
+        assertThat(small.getData()).hasSize(2);
+        assertThat(large.getData()).hasSize(30);
+        // 방 조회 + 전체 수 + 사용자 $in (최근 메시지 수는 room 문서에서 계산)
+        assertThat(largeQueries).isLessThanOrEqualTo(3).isEqualTo(smallQueries);
+    }
+
+    @Test
+    @DisplayName("생성자, 참여자, 최근 메시지 수를 방마다 채운다")
+    void getAllRoomsWithPagination_fillsRoomDetails() {
+        saveRooms(5);
+
+        List<RoomResponse> rooms = firstPage(10).getData();
+
+        assertThat(rooms).hasSize(5);
+        assertThat(rooms).allSatisfy(room -> {
+            int index = Integer.parseInt(room.getName().substring("room-".length()));
+            assertThat(room.getCreator().getName()).isEqualTo("creator-" + index);
+            assertThat(room.getParticipants()).extracting(UserResponse::getName)
+                    .containsExactlyInAnyOrder("creator-" + index, "participant-" + index);
+            assertThat(room.getRecentMessageCount()).isEqualTo(index % 3);
+        });
+    }
+
+    @Test
+    @DisplayName("최근 메시지 수로 정렬할 수 있다")
+    void getAllRoomsWithPagination_sortsByRecentMessageCount() {
+        saveRooms(5);
+        PageRequest pageRequest = new PageRequest();
+        pageRequest.setSortField("recentMessageCount");
+
+        List<RoomResponse> rooms = roomService.getAllRoomsWithPagination(pageRequest, "creator-0@example.com").getData();
+
+        assertThat(rooms).extracting(RoomResponse::getRecentMessageCount).containsExactly(2, 2, 1, 1, 0);
+    }
+}
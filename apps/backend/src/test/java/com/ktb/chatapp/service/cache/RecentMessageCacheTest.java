@@ -0,0 +1,118 @@
+package com.ktb.chatapp.service.cache;
+
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentMessageCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private RecentMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RecentMessageCache(meterRegistry, 5, DataSize.ofMegabytes(1), Duration.ofMinutes(30));
+    }
+
+    private MessageResponse message(String roomId, int index) {
+        return MessageResponse.builder()
+                .id("m" + index)
+                .roomId(roomId)
+                .content("message " + index)
+                .timestamp(1_000L + index)
+                .sender(UserResponse.builder().id("user-" + (index % 2)).build())
+                .reactions(Map.of())
+                .readers(List.of())
+                .build();
+    }
+
+    private List<MessageResponse> messages(String roomId, int fromInclusive, int toExclusive) {
+        return IntStream.range(fromInclusive, toExclusive).mapToObj(i -> message(roomId, i)).toList();
+    }
+
+    @Test
+    @DisplayName("시드되지 않은 방은 실시간 메시지가 있어도 첫 페이지를 응답하지 않는다")
+    void firstPage_requiresSeed() {
+        cache.append(message("room-1", 10));
+
+        assertThat(cache.firstPage("room-1", 3)).isEmpty();
+
+        cache.seed("room-1", messages("room-1", 7, 10), true);
+
+        assertThat(cache.firstPage("room-1", 3)).hasValueSatisfying(page -> {
+            assertThat(page.messages()).extracting(MessageResponse::getId).containsExactly("m8", "m9", "m10");
+            assertThat(page.hasMore()).isTrue();
+        });
+        assertThat(meterRegistry.get("chat.history.recent").tag("result", "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.history.recent").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 오래된 메시지를 밀어내고 더 요청하면 저장소로 넘긴다")
+    void append_keepsNewestMessagesWithinCapacity() {
+        cache.seed("room-1", messages("room-1", 0, 3), false);
+        messages("room-1", 3, 8).forEach(cache::append);
+
+        assertThat(cache.firstPage("room-1", 5)).hasValueSatisfying(page -> {
+            assertThat(page.messages()).extracting(MessageResponse::getId)
+                    .containsExactly("m3", "m4", "m5", "m6", "m7");
+            assertThat(page.hasMore()).isTrue();
+        });
+        assertThat(cache.firstPage("room-1", 6)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장소에 더 오래된 메시지가 없으면 요청보다 적어도 응답한다")
+    void firstPage_servesShortRoomsCompletely() {
+        cache.seed("room-1", messages("room-1", 0, 2), false);
+
+        assertThat(cache.firstPage("room-1", 30)).hasValueSatisfying(page -> {
+            assertThat(page.messages()).hasSize(2);
+            assertThat(page.hasMore()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("리액션과 읽음 상태를 캐시된 메시지에 반영한다")
+    void patches_updateCachedMessages() {
+        cache.seed("room-1", messages("room-1", 0, 3), false);
+
+        cache.updateReactions("room-1", "m1", Map.of("👍", Set.of("user-9")));
+        cache.markReadUpTo("room-1", "user-9", 1_001L, LocalDateTime.now());
+        cache.markReadUpTo("room-1", "user-9", 1_000L, LocalDateTime.now());
+
+        List<MessageResponse> page = cache.firstPage("room-1", 3).orElseThrow().messages();
+        assertThat(page.get(1).getReactions()).containsEntry("👍", Set.of("user-9"));
+        assertThat(page.get(0).getReaders()).hasSize(1);
+        assertThat(page.get(1).getReaders()).hasSize(1);
+        assertThat(page.get(1).getReadCount()).isEqualTo(1);
+        assertThat(page.get(2).getReaders()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프로필이 바뀐 사용자의 메시지가 있는 방만 비운다")
+    void handleUserProfileUpdated_dropsRoomsWithSendersMessages() {
+        cache.seed("room-1", List.of(message("room-1", 1)), false);
+        cache.seed("room-2", List.of(message("room-2", 2)), false);
+
+        cache.handleUserProfileUpdated(new UserProfileUpdatedEvent(this, "user-1"));
+
+        assertThat(cache.firstPage("room-1", 1)).isEmpty();
+        assertThat(cache.firstPage("room-2", 1)).isPresent();
+    }
+}
@@ -0,0 +1,157 @@
+package com.ktb.chatapp.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.PageRequest;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.service.RoomSearchService;
+import com.ktb.chatapp.service.RoomService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomListCacheTest {
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RoomListCache(roomService, new ObjectMapper(), meterRegistry, Duration.ofMinutes(1), 100);
+    }
+
+    private PageRequest request(String sortField, String sortOrder, String search) {
+        PageRequest pageRequest = new PageRequest();
+        pageRequest.setSortField(sortField);
+        pageRequest.setSortOrder(sortOrder);
+        pageRequest.setSearch(search);
+        return pageRequest;
+    }
+
+    private RoomsResponse rooms(String... names) {
+        return RoomsResponse.builder()
+                .success(true)
+                .data(Arrays.stream(names)
+                        .map(name -> RoomResponse.builder().id(name).name(name).participants(List.of()).build())
+                        .toList())
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 페이지는 한 번만 렌더링하고 같은 ETag로 응답한다")
+    void get_rendersOncePerPage() {
+        when(roomService.getAllRoomsWithPagination(any(), isNull())).thenReturn(rooms("room-1"));
+
+        RoomListCache.RoomListSnapshot first = cache.get(request("createdAt", "desc", null));
+        RoomListCache.RoomListSnapshot second = cache.get(request("createdAt", "desc", null));
+
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        assertThat(second.etag()).isEqualTo(first.etag());
+        verify(roomService, times(1)).getAllRoomsWithPagination(any(), isNull());
+        assertThat(meterRegistry.get("chat.room_list.cache.hit_ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("잘못된 정렬값과 정규화 전 검색어는 같은 페이지로 본다")
+    void get_sharesEquivalentRequests() {
+        when(roomService.getAllRoomsWithPagination(any(), isNull())).thenReturn(rooms("room-1"));
+
+        cache.get(request("createdAt", "desc", null));
+        cache.get(request("unknown", "sideways", null));
+        cache.get(request("name", "asc", "  Ｓｔｕｄｙ "));
+        cache.get(request("createdAt", "desc", "study"));
+
+        ArgumentCaptor<PageRequest> rendered = ArgumentCaptor.forClass(PageRequest.class);
+        verify(roomService, times(2)).getAllRoomsWithPagination(rendered.capture(), isNull());
+        assertThat(rendered.getAllValues()).extracting(PageRequest::getSearch).containsExactly(null, "study");
+    }
+
+    @Test
+    @DisplayName("방 생성/변경 이벤트가 오면 다시 렌더링하고 내용이 바뀐 경우에만 ETag가 바뀐다")
+    void roomEvents_invalidateSnapshots() {
+        when(roomService.getAllRoomsWithPagination(any(), isNull()))
+                .thenReturn(rooms("room-1"), rooms("room-1"), rooms("room-2", "room-1"));
+
+        String initial = cache.get(request("createdAt", "desc", null)).etag();
+
+        cache.handleRoomUpdated(new RoomUpdatedEvent(this, "room-1", null));
+        assertThat(cache.get(request("createdAt", "desc", null)).etag()).isEqualTo(initial);
+
+        cache.handleRoomCreated(new RoomCreatedEvent(this, null));
+        assertThat(cache.get(request("createdAt", "desc", null)).etag()).isNotEqualTo(initial);
+
+        verify(roomService, times(3)).getAllRoomsWithPagination(any(), isNull());
+    }
+
+    @Test
+    @DisplayName("이미 참여 중인 방에 다시 입장하면 방 목록을 다시 렌더링하지 않는다")
+    void repeatedJoin_keepsSnapshots() {
+        when(roomService.getAllRoomsWithPagination(any(), isNull())).thenReturn(rooms("room-1"), rooms("room-1"));
+        Room room = new Room();
+        room.setId("room-1");
+        room.setParticipantIds(new HashSet<>(Set.of("user-1")));
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(userRepository.findByEmail("user1@example.com")).thenReturn(Optional.of(User.builder().id("user-1").build()));
+        when(userRepository.findByEmail("user2@example.com")).thenReturn(Optional.of(User.builder().id("user-2").build()));
+        when(roomRepository.addParticipant("room-1", "user-2")).thenReturn(1L);
+        // 방 입장은 실제 RoomService로 처리하고 발행된 이벤트를 캐시에 전달한다
+        RoomService joining = new RoomService(roomRepository, userRepository, mock(RoomActivityCounter.class),
+                mock(RoomSearchService.class), mock(PasswordEncoder.class), event -> {
+                    if (event instanceof RoomUpdatedEvent updated) {
+                        cache.handleRoomUpdated(updated);
+                    }
+                }, Runnable::run);
+
+        cache.get(request("createdAt", "desc", null));
+        joining.joinRoom("room-1", null, "user1@example.com");
+        cache.get(request("createdAt", "desc", null));
+        verify(roomService, times(1)).getAllRoomsWithPagination(any(), isNull());
+
+        joining.joinRoom("room-1", null, "user2@example.com");
+        cache.get(request("createdAt", "desc", null));
+        verify(roomService, times(2)).getAllRoomsWithPagination(any(), isNull());
+    }
+
+    @Test
+    @DisplayName("렌더링에 실패한 페이지는 ETag 없이 응답하고 캐시하지 않는다")
+    void get_doesNotCacheFailures() {
+        RoomsResponse failure = RoomsResponse.builder().success(false).data(List.of()).build();
+        when(roomService.getAllRoomsWithPagination(any(), isNull())).thenReturn(failure, rooms("room-1"));
+
+        assertThat(cache.get(request("createdAt", "desc", null)).etag()).isNull();
+        assertThat(cache.get(request("createdAt", "desc", null)).etag()).isNotNull();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ktb.chatapp.service.cache;
+
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomParticipantCacheTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    private MeterRegistry meterRegistry;
+    private RoomParticipantCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RoomParticipantCache(roomRepository, meterRegistry, Duration.ofMinutes(1), 100);
+    }
+
+    private Room room(String id, String... participantIds) {
+        Room room = new Room();
+        room.setId(id);
+        room.setParticipantIds(new HashSet<>(List.of(participantIds)));
+        return room;
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 응답하고 hit/miss 지표를 기록한다")
+    void isParticipant_servesRepeatedLookupsFromCache() {
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room("room-1", "user-1")));
+
+        assertThat(cache.isParticipant("room-1", "user-1")).isTrue();
+        assertThat(cache.isParticipant("room-1", "user-1")).isTrue();
+
+        verify(roomRepository, times(1)).findById("room-1");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", RoomParticipantCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", RoomParticipantCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("참가자 변경 이벤트가 오면 캐시를 무효화한다")
+    void handleRoomParticipantsChanged_evictsEntry() {
+        when(roomRepository.findById("room-1"))
+                .thenReturn(Optional.of(room("room-1", "user-1")))
+                .thenReturn(Optional.of(room("room-1")));
+
+        assertThat(cache.getParticipantIds("room-1")).contains(java.util.Set.of("user-1"));
+
+        cache.handleRoomParticipantsChanged(new RoomParticipantsChangedEvent(this, "room-1", "user-1", false));
+
+        assertThat(cache.getParticipantIds("room-1")).contains(java.util.Set.of());
+        verify(roomRepository, times(2)).findById("room-1");
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 참가자는 저장소에서 한 번 더 확인한다")
+    void isParticipant_rechecksRepositoryOnNegativeAnswer() {
+        when(roomRepository.findById("room-1"))
+                .thenReturn(Optional.of(room("room-1", "user-1")))
+                .thenReturn(Optional.of(room("room-1", "user-1", "user-2")));
+
+        assertThat(cache.isParticipant("room-1", "user-1")).isTrue();
+        assertThat(cache.isParticipant("room-1", "user-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 방은 캐시하지 않는다")
+    void getParticipantIds_doesNotCacheMissingRoom() {
+        when(roomRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThat(cache.getParticipantIds("missing")).isEmpty();
+        assertThat(cache.getParticipantIds("missing")).isEmpty();
+
+        verify(roomRepository, times(2)).findById("missing");
+    }
+}
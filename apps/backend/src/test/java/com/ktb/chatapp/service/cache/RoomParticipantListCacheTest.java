@@ -0,0 +1,111 @@
+package com.ktb.chatapp.service.cache;
+
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomParticipantListCacheTest {
+
+    @Mock
+    private RoomParticipantCache roomParticipantCache;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RoomParticipantListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RoomParticipantListCache(roomParticipantCache, userSummaryCache, userRepository,
+                new SimpleMeterRegistry(), Duration.ofMinutes(1), 1000);
+    }
+
+    private User user(String id, String name) {
+        return User.builder().id(id).name(name).email(id + "@example.com").build();
+    }
+
+    private List<String> idsOf(Optional<List<UserResponse>> participants) {
+        return participants.orElseThrow().stream().map(UserResponse::getId).toList();
+    }
+
+    @Test
+    @DisplayName("참가자 정보를 $in 조회 한 번으로 채우고 이후에는 캐시에서 응답한다")
+    void getParticipants_hydratesWithOneQuery() {
+        when(roomParticipantCache.getParticipantIds("room-1")).thenReturn(Optional.of(Set.of("user-1", "user-2")));
+        when(userRepository.findSummariesByIdIn(Set.of("user-1", "user-2")))
+                .thenReturn(List.of(user("user-2", "bob"), user("user-1", "alice")));
+
+        assertThat(idsOf(cache.getParticipants("room-1"))).containsExactly("user-1", "user-2");
+        assertThat(idsOf(cache.getParticipants("room-1"))).containsExactly("user-1", "user-2");
+
+        verify(userRepository, times(1)).findSummariesByIdIn(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("입장과 퇴장 이벤트는 다시 조회하지 않고 캐시된 목록을 고친다")
+    void handleRoomParticipantsChanged_patchesCachedList() {
+        when(roomParticipantCache.getParticipantIds("room-1")).thenReturn(Optional.of(Set.of("user-1")));
+        when(userRepository.findSummariesByIdIn(Set.of("user-1"))).thenReturn(List.of(user("user-1", "bob")));
+        when(userSummaryCache.get("user-2")).thenReturn(Optional.of(UserResponse.from(user("user-2", "alice"))));
+        cache.getParticipants("room-1");
+
+        cache.handleRoomParticipantsChanged(new RoomParticipantsChangedEvent(this, "room-1", "user-2", true));
+        assertThat(idsOf(cache.getParticipants("room-1"))).containsExactly("user-2", "user-1");
+
+        cache.handleRoomParticipantsChanged(new RoomParticipantsChangedEvent(this, "room-1", "user-1", false));
+        assertThat(idsOf(cache.getParticipants("room-1"))).containsExactly("user-2");
+
+        verify(userRepository, times(1)).findSummariesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("프로필이 바뀐 사용자가 있는 방만 비운다")
+    void handleUserProfileUpdated_dropsRoomsWithUser() {
+        when(roomParticipantCache.getParticipantIds("room-1")).thenReturn(Optional.of(Set.of("user-1")));
+        when(roomParticipantCache.getParticipantIds("room-2")).thenReturn(Optional.of(Set.of("user-2")));
+        when(userRepository.findSummariesByIdIn(Set.of("user-1"))).thenReturn(List.of(user("user-1", "alice")));
+        when(userRepository.findSummariesByIdIn(Set.of("user-2"))).thenReturn(List.of(user("user-2", "bob")));
+        cache.getParticipants("room-1");
+        cache.getParticipants("room-2");
+
+        cache.handleUserProfileUpdated(new UserProfileUpdatedEvent(this, "user-1"));
+        cache.getParticipants("room-1");
+        cache.getParticipants("room-2");
+
+        verify(userRepository, times(2)).findSummariesByIdIn(Set.of("user-1"));
+        verify(userRepository, times(1)).findSummariesByIdIn(Set.of("user-2"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 방은 캐시하지 않는다")
+    void getParticipants_doesNotCacheMissingRoom() {
+        when(roomParticipantCache.getParticipantIds("missing")).thenReturn(Optional.empty());
+
+        assertThat(cache.getParticipants("missing")).isEmpty();
+        assertThat(cache.getParticipants("missing")).isEmpty();
+
+        verify(roomParticipantCache, times(2)).getParticipantIds("missing");
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,155 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WriteBehindMessageWriterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @TempDir
+    Path spillDir;
+
+    private final List<List<String>> insertedBatches = new CopyOnWriteArrayList<>();
+    private MeterRegistry meterRegistry;
+    private WriteBehindMessageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Message.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            insertedBatches.add(batch.stream().map(m -> ((Message) m).getId()).toList());
+            return bulkOperations;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private WriteBehindMessageWriter createWriter(int batchSize, Duration flushInterval) {
+        return new WriteBehindMessageWriter(
+                mongoTemplate,
+                new ObjectMapper().findAndRegisterModules(),
+                meterRegistry,
+                100,
+                batchSize,
+                flushInterval,
+                Duration.ofMillis(10),
+                WriteBehindMessageWriter.OverflowPolicy.SPILL,
+                2,
+                Duration.ofMillis(1),
+                Duration.ZERO,
+                Duration.ofSeconds(5),
+                spillDir);
+    }
+
+    private Message message(String content) {
+        return Message.builder()
+                .id(new ObjectId().toHexString())
+                .roomId("room-1")
+                .senderId("user-1")
+                .content(content)
+                .type(MessageType.text)
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장 전에 ID와 timestamp를 즉시 할당한다")
+    void write_assignsIdAndTimestampImmediately() {
+        writer = createWriter(10, Duration.ofMillis(200));
+        writer.start();
+
+        Message draft = message("hello");
+        draft.setId(null);
+
+        Message written = writer.write(draft);
+
+        assertThat(written.getId()).isNotBlank();
+        assertThat(written.getTimestamp()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 모이면 한 번의 insertMany로 저장한다")
+    void write_flushesFullBatchWithSingleBulkInsert() {
+        writer = createWriter(3, Duration.ofMillis(500));
+        writer.start();
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(writer.write(message("m" + i)).getId());
+        }
+
+        verify(bulkOperations, timeout(2000)).execute();
+        assertThat(insertedBatches).containsExactly(ids);
+        assertThat(meterRegistry.get("chat.messages.write_behind.persisted").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("재시도가 모두 실패하면 디스크에 스필하고 다음 성공 시 재처리한다")
+    void flush_spillsAfterRetriesAndReplaysOnRecovery() throws Exception {
+        writer = createWriter(10, Duration.ofSeconds(1));
+        Message failed = message("lost?");
+        Message next = message("next");
+
+        when(bulkOperations.execute())
+                .thenThrow(new DataAccessResourceFailureException("mongo down"))
+                .thenThrow(new DataAccessResourceFailureException("mongo down"))
+                .thenReturn(null);
+
+        writer.flush(List.of(failed));
+
+        assertThat(meterRegistry.get("chat.messages.write_behind.retries").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.messages.write_behind.spilled").counter().count()).isEqualTo(1.0);
+        try (var files = Files.list(spillDir)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+
+        writer.flush(List.of(next));
+
+        assertThat(insertedBatches).endsWith(List.of(next.getId()), List.of(failed.getId()));
+        try (var files = Files.list(spillDir)) {
+            assertThat(files.count()).isZero();
+        }
+    }
+}
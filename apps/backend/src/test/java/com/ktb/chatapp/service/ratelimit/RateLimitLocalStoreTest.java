@@ -0,0 +1,143 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitLocalStoreTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    private MutableClock clock;
+    private RateLimitLocalStore store;
+
+    @BeforeEach
+    void setUp() {
+        // 창 경계(분 단위)에 맞춘 시각에서 시작
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        store = new RateLimitLocalStore(new SimpleMeterRegistry(), Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    @DisplayName("한도까지 허용하고 남은 횟수를 줄이며 초과 요청은 차단한다")
+    void checkAndIncrement_allowsUpToLimitThenRejects() {
+        for (int expectedRemaining = 2; expectedRemaining >= 0; expectedRemaining--) {
+            RateLimitCheckResult result = store.checkAndIncrement("client", 3, WINDOW);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(expectedRemaining);
+            assertThat(result.limit()).isEqualTo(3);
+            assertThat(result.windowSeconds()).isEqualTo(60);
+        }
+
+        RateLimitCheckResult rejected = store.checkAndIncrement("client", 3, WINDOW);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 60L);
+        assertThat(rejected.resetEpochSeconds()).isEqualTo(clock.instant().getEpochSecond() + 60);
+    }
+
+    @Test
+    @DisplayName("이전 창의 요청은 경과 시간에 비례해 가중치가 줄어든다")
+    void checkAndIncrement_weightsPreviousWindow() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(store.checkAndIncrement("client", 10, WINDOW).allowed()).isTrue();
+        }
+
+        // 다음 창의 절반 지점: 이전 창 10건 * 0.5 = 5건으로 추정
+        clock.advance(Duration.ofSeconds(90));
+
+        int allowed = 0;
+        while (store.checkAndIncrement("client", 10, WINDOW).allowed()) {
+            allowed++;
+        }
+        assertThat(allowed).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 증가분을 잃지 않는다")
+    void checkAndIncrement_isAtomicUnderContention() throws Exception {
+        int threads = 8;
+        int requestsPerThread = 1000;
+        int limit = 5000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    int allowed = 0;
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        if (store.checkAndIncrement("hot-client", limit, WINDOW).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                });
+            }
+            int totalAllowed = 0;
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                totalAllowed += future.get();
+            }
+            assertThat(totalAllowed).isEqualTo(limit);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("두 창 이상 요청이 없던 클라이언트는 지연 제거된다")
+    void checkAndIncrement_evictsIdleClientsLazily() {
+        store.checkAndIncrement("idle", 5, WINDOW);
+        store.checkAndIncrement("active", 5, WINDOW);
+        assertThat(store.size()).isEqualTo(2);
+
+        clock.advance(Duration.ofMinutes(3));
+        store.checkAndIncrement("active", 5, WINDOW);
+
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Redis 호출은 스크립트와 같은 규칙으로 동작하는 카운터로 대체해 임대 로직만 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitRedisStoreTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RScript script;
+
+    private final Map<String, Long> counters = new HashMap<>();
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getScript(any(Codec.class))).thenReturn(script);
+        when(script.scriptLoad(RateLimitRedisStore.ACQUIRE_SCRIPT)).thenReturn("sha");
+        when(script.evalSha(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class),
+                anyList(), any(Object[].class))).thenAnswer(invocation -> {
+                    List<?> keys = invocation.getArgument(3);
+                    String key = (String) keys.get(0);
+                    long limit = Long.parseLong(invocation.getArgument(4));
+                    long window = Long.parseLong(invocation.getArgument(5));
+                    long requested = Long.parseLong(invocation.getArgument(6));
+                    long used = counters.getOrDefault(key, 0L);
+                    long granted = Math.max(0, Math.min(requested, limit - used));
+                    counters.put(key, used + granted);
+                    return List.of(granted, used + granted, window);
+                });
+    }
+
+    private RateLimitRedisStore store(int leaseSize) {
+        return new RateLimitRedisStore(redissonClient, new SimpleMeterRegistry(), leaseSize, 1000, clock);
+    }
+
+    @Test
+    @DisplayName("임대 없이 사용하면 매 요청마다 Redis에서 원자적으로 확인한다")
+    void checkAndIncrement_withoutLeaseCallsRedisEveryTime() {
+        RateLimitRedisStore store = store(0);
+        assertThat(store.sharedAcrossNodes()).isTrue();
+
+        for (int expectedRemaining = 2; expectedRemaining >= 0; expectedRemaining--) {
+            RateLimitCheckResult result = store.checkAndIncrement("client", 3, WINDOW);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(expectedRemaining);
+        }
+        RateLimitCheckResult rejected = store.checkAndIncrement("client", 3, WINDOW);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(60);
+        verify(script, times(4)).evalSha(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class),
+                anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("임대한 허용량은 로컬에서 처리하고 소진된 창은 로컬에서 거절한다")
+    void checkAndIncrement_servesLeasedPermitsLocally() {
+        RateLimitRedisStore store = store(10);
+
+        int allowed = 0;
+        for (int i = 0; i < 30; i++) {
+            if (store.checkAndIncrement("client", 25, WINDOW).allowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(25);
+        assertThat(counters.get(RateLimitRedisStore.KEY_PREFIX + "client")).isEqualTo(25L);
+        // 10 + 10 + 5 임대 후에는 Redis를 호출하지 않는다
+        verify(script, times(3)).evalSha(any(RScript.Mode.class), anyString(), any(RScript.ReturnType.class),
+                anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("남은 횟수는 임대했지만 쓰지 않은 허용량을 제외한다")
+    void checkAndIncrement_remainingExcludesUnusedLease() {
+        RateLimitRedisStore store = store(10);
+
+        assertThat(store.checkAndIncrement("client", 100, WINDOW).remaining()).isEqualTo(99);
+        assertThat(store.checkAndIncrement("client", 100, WINDOW).remaining()).isEqualTo(98);
+    }
+}
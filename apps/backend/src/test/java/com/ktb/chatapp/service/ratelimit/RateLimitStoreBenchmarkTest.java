@@ -0,0 +1,103 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.config.RedisTestContainer;
+import com.ktb.chatapp.repository.RateLimitRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * RateLimitStore 구현별 처리량/지연 비교.
+ * 컨테이너를 띄우고 오래 걸리므로 {@code -Dbenchmark=true}일 때만 실행한다.
+ * <pre>
+ * ./mvnw test -Dtest=RateLimitStoreBenchmarkTest -Dbenchmark=true
+ * </pre>
+ */
+@SpringBootTest
+@Import({MongoTestContainer.class, RedisTestContainer.class})
+@TestPropertySource(properties = {
+        "socketio.enabled=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("RateLimitStore 벤치마크")
+class RateLimitStoreBenchmarkTest {
+
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int MAX_REQUESTS = 1000;
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    @Autowired
+    private RateLimitRepository rateLimitRepository;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @ParameterizedTest(name = "{0} concurrent clients")
+    @ValueSource(ints = {1_000, 10_000})
+    void compareStores(int clients) throws Exception {
+        rateLimitRepository.deleteAll();
+        redissonClient.getKeys().deleteByPattern(RateLimitRedisStore.KEY_PREFIX + "*");
+
+        var meterRegistry = new SimpleMeterRegistry();
+        run("mongo", new RateLimitMongoStore(rateLimitRepository), clients);
+        run("redis", new RateLimitRedisStore(redissonClient, meterRegistry, 0, 100_000), clients);
+        redissonClient.getKeys().deleteByPattern(RateLimitRedisStore.KEY_PREFIX + "*");
+        run("redis+lease(10)", new RateLimitRedisStore(redissonClient, meterRegistry, 10, 100_000), clients);
+        run("local", new RateLimitLocalStore(meterRegistry, Duration.ofMinutes(1)), clients);
+    }
+
+    private void run(String name, RateLimitStore store, int clients) throws Exception {
+        String runId = name + "-" + clients + "-" + System.nanoTime() + ":";
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[clients * REQUESTS_PER_CLIENT];
+
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long t0 = System.nanoTime();
+                        try {
+                            store.checkAndIncrement(runId + client, MAX_REQUESTS, WINDOW);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[client * REQUESTS_PER_CLIENT + i] = System.nanoTime() - t0;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-16s clients=%-6d requests=%-7d throughput=%10.0f req/s  p50=%7.2fms  p99=%7.2fms  errors=%d%n",
+                name, clients, latencies.length, latencies.length / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), errors.get());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(sorted.length * p))] / 1e6;
+    }
+}
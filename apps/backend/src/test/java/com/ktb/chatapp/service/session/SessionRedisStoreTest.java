@@ -0,0 +1,117 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.config.RedisTestContainer;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import({MongoTestContainer.class, RedisTestContainer.class})
+@TestPropertySource(properties = {
+    "socketio.enabled=false",
+    "chatapp.session.store=redis"
+})
+@DisplayName("SessionRedisStore 통합 테스트")
+class SessionRedisStoreTest {
+
+    private static final String USER_ID = "redis-user-1";
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @AfterEach
+    void tearDown() {
+        sessionStore.deleteAll(USER_ID);
+    }
+
+    private Session session(String sessionId, Instant expiresAt) {
+        long now = Instant.now().toEpochMilli();
+        return Session.builder()
+                .userId(USER_ID)
+                .sessionId(sessionId)
+                .createdAt(now)
+                .lastActivity(now)
+                .expiresAt(expiresAt)
+                .metadata(new SessionMetadata("JUnit", "127.0.0.1", "Test"))
+                .build();
+    }
+
+    private long remainTimeToLive() {
+        return redissonClient.getMap(SessionRedisStore.KEY_PREFIX + USER_ID).remainTimeToLive();
+    }
+
+    @Test
+    @DisplayName("Redis 저장소가 선택된다")
+    void redisStoreIsSelected() {
+        assertThat(sessionStore).isInstanceOf(SessionRedisStore.class);
+    }
+
+    @Test
+    @DisplayName("저장한 세션을 그대로 읽고 키에 TTL이 설정된다")
+    void save_roundTripsSessionWithNativeTtl() {
+        Session saved = session("session-1", Instant.now().plusSeconds(60));
+        sessionStore.save(saved);
+
+        Optional<Session> found = sessionStore.findByUserId(USER_ID);
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getSessionId()).isEqualTo("session-1");
+        assertThat(found.get().getLastActivity()).isEqualTo(saved.getLastActivity());
+        assertThat(found.get().getMetadata()).isEqualTo(saved.getMetadata());
+        assertThat(remainTimeToLive()).isBetween(1L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("touch는 활동 시간과 만료 시각을 갱신한다")
+    void touch_updatesActivityAndExtendsTtl() {
+        sessionStore.save(session("session-1", Instant.now().plusSeconds(10)));
+        long lastActivity = Instant.now().toEpochMilli() + 1000;
+
+        sessionStore.touch(USER_ID, "session-1", lastActivity, Instant.now().plusSeconds(600));
+
+        assertThat(sessionStore.findByUserId(USER_ID)).get()
+                .extracting(Session::getLastActivity).isEqualTo(lastActivity);
+        assertThat(remainTimeToLive()).isGreaterThan(10_000L);
+    }
+
+    @Test
+    @DisplayName("다른 세션 ID로는 갱신하거나 삭제할 수 없다")
+    void touchAndDelete_ignoreMismatchedSessionId() {
+        Session saved = session("session-1", Instant.now().plusSeconds(60));
+        sessionStore.save(saved);
+
+        sessionStore.touch(USER_ID, "other", saved.getLastActivity() + 5000, Instant.now().plusSeconds(600));
+        sessionStore.delete(USER_ID, "other");
+
+        assertThat(sessionStore.findByUserId(USER_ID)).get()
+                .extracting(Session::getLastActivity).isEqualTo(saved.getLastActivity());
+
+        sessionStore.delete(USER_ID, "session-1");
+        assertThat(sessionStore.findByUserId(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("새 세션을 저장하면 이전 세션을 대체한다")
+    void save_replacesPreviousSession() {
+        sessionStore.save(session("session-1", Instant.now().plusSeconds(60)));
+        sessionStore.save(session("session-2", Instant.now().plusSeconds(60)));
+
+        assertThat(sessionStore.findByUserId(USER_ID)).get()
+                .extracting(Session::getSessionId).isEqualTo("session-2");
+    }
+}
@@ -0,0 +1,120 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.SessionValidationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ValidatedSessionCacheTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String SESSION_ID = "session-1";
+
+    @Mock
+    private SessionStore sessionStore;
+
+    private MeterRegistry meterRegistry;
+    private SessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private void createService(Duration activityWriteThreshold) {
+        ValidatedSessionCache cache = new ValidatedSessionCache(
+                meterRegistry, Duration.ofMinutes(1), 100, activityWriteThreshold);
+        sessionService = new SessionService(sessionStore, cache);
+    }
+
+    private Session storedSession(long lastActivity) {
+        return Session.builder()
+                .userId(USER_ID)
+                .sessionId(SESSION_ID)
+                .createdAt(lastActivity)
+                .lastActivity(lastActivity)
+                .expiresAt(Instant.ofEpochMilli(lastActivity).plusSeconds(SessionService.SESSION_TTL_SEC))
+                .build();
+    }
+
+    @Test
+    @DisplayName("반복 검증은 저장소를 한 번만 조회하고 임계값 이내의 활동은 기록하지 않는다")
+    void validateSession_servesRepeatedRequestsFromCache() {
+        createService(Duration.ofMinutes(1));
+        when(sessionStore.findByUserId(USER_ID))
+                .thenReturn(Optional.of(storedSession(Instant.now().toEpochMilli())));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(sessionService.validateSession(USER_ID, SESSION_ID).isValid()).isTrue();
+            sessionService.updateLastActivity(USER_ID);
+        }
+
+        verify(sessionStore, times(1)).findByUserId(USER_ID);
+        verify(sessionStore, never()).touch(any(), any(), anyLong(), any());
+        verify(sessionStore, never()).save(any());
+        assertThat(meterRegistry.get("session.activity.coalesced").counter().count()).isEqualTo(200.0);
+    }
+
+    @Test
+    @DisplayName("저장된 lastActivity가 임계값보다 오래되면 한 번만 기록한다")
+    void validateSession_writesActivityOnceWhenStale() {
+        createService(Duration.ofMinutes(1));
+        long twoMinutesAgo = Instant.now().minusSeconds(120).toEpochMilli();
+        when(sessionStore.findByUserId(USER_ID)).thenReturn(Optional.of(storedSession(twoMinutesAgo)));
+
+        SessionValidationResult first = sessionService.validateSession(USER_ID, SESSION_ID);
+        sessionService.validateSession(USER_ID, SESSION_ID);
+
+        assertThat(first.getSession().getLastActivity()).isGreaterThan(twoMinutesAgo);
+        verify(sessionStore, times(1)).touch(eq(USER_ID), eq(SESSION_ID), anyLong(), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("캐시와 다른 세션 ID는 저장소에서 다시 확인한다")
+    void validateSession_rechecksStoreOnSessionIdMismatch() {
+        createService(Duration.ofMinutes(1));
+        long now = Instant.now().toEpochMilli();
+        Session replaced = storedSession(now);
+        replaced.setSessionId("session-2");
+        when(sessionStore.findByUserId(USER_ID))
+                .thenReturn(Optional.of(storedSession(now)))
+                .thenReturn(Optional.of(replaced));
+
+        assertThat(sessionService.validateSession(USER_ID, SESSION_ID).isValid()).isTrue();
+        assertThat(sessionService.validateSession(USER_ID, "session-2").isValid()).isTrue();
+        assertThat(sessionService.validateSession(USER_ID, "session-2").isValid()).isTrue();
+
+        verify(sessionStore, times(2)).findByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("세션을 삭제하면 캐시도 무효화된다")
+    void removeSession_evictsCachedSession() {
+        createService(Duration.ofMinutes(1));
+        when(sessionStore.findByUserId(USER_ID))
+                .thenReturn(Optional.of(storedSession(Instant.now().toEpochMilli())))
+                .thenReturn(Optional.empty());
+
+        assertThat(sessionService.validateSession(USER_ID, SESSION_ID).isValid()).isTrue();
+        sessionService.removeSession(USER_ID, SESSION_ID);
+
+        assertThat(sessionService.validateSession(USER_ID, SESSION_ID).isValid()).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ktb.chatapp.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BannedWordChecker(Aho-Corasick)와 기존 단어별 contains 스캔의 처리량 비교.
+ * 금칙어가 없는 메시지를 사용해 항상 입력 전체를 훑는 최악의 경우를 잰다.
+ * 테스트 클래스가 아니므로 surefire 대상이 아니며 main으로 직접 실행한다.
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ktb.chatapp.util.BannedWordCheckerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BannedWordCheckerBenchmark {
+
+    private static final Path WORD_LIST_PATH =
+            Path.of("src/main/resources/fake_banned_words_10k.txt");
+    private static final String FILLER = "안녕하세요 오늘 회의는 3시에 시작합니다. See you there! ";
+
+    @Param({"short", "10000"})
+    private String messageLength;
+
+    private BannedWordChecker checker;
+    private Set<String> normalizedWords;
+    private String message;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> words =
+                Files.readAllLines(WORD_LIST_PATH).stream()
+                        .map(String::trim)
+                        .filter(word -> !word.isEmpty())
+                        .toList();
+        checker = new BannedWordChecker(new HashSet<>(words));
+        normalizedWords = new HashSet<>();
+        for (String word : words) {
+            normalizedWords.add(word.toLowerCase(Locale.ROOT));
+        }
+
+        int length = "short".equals(messageLength) ? 40 : Integer.parseInt(messageLength);
+        message = FILLER.repeat(length / FILLER.length() + 1).substring(0, length);
+        if (checker.containsBannedWord(message)) {
+            throw new IllegalStateException("Benchmark message must not contain banned words");
+        }
+    }
+
+    @Benchmark
+    public boolean automaton() {
+        return checker.containsBannedWord(message);
+    }
+
+    @Benchmark
+    public boolean naiveContains() {
+        String normalizedMessage = message.toLowerCase(Locale.ROOT);
+        return normalizedWords.stream().anyMatch(normalizedMessage::contains);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BannedWordCheckerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -54,4 +54,19 @@ class BannedWordCheckerTest {
         assertFalse(checker.containsBannedWord(null));
         assertFalse(checker.containsBannedWord("   "));
     }
+
+    @Test
+    void containsBannedWord_ignoresCase() {
+        BannedWordChecker checker = new BannedWordChecker(Set.of("Spam"));
+        assertTrue(checker.containsBannedWord("no SPAM here"));
+        assertTrue(checker.containsBannedWord("spAm"));
+    }
+
+    @Test
+    void containsBannedWord_followsFailureLinksAcrossOverlappingWords() {
+        BannedWordChecker checker = new BannedWordChecker(Set.of("abcd", "bce", "금지어"));
+        assertTrue(checker.containsBannedWord("xxabce"));
+        assertTrue(checker.containsBannedWord("이건금지금지어야"));
+        assertFalse(checker.containsBannedWord("abcabc bc"));
+    }
 }
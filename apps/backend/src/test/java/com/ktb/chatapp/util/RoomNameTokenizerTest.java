@@ -0,0 +1,38 @@
+package com.ktb.chatapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomNameTokenizerTest {
+
+    @Test
+    void normalize_foldsCaseWidthAndWhitespace() {
+        assertThat(RoomNameTokenizer.normalize("  Ｋｔｂ   Chat\tRoom ")).isEqualTo("ktb chat room");
+        assertThat(RoomNameTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void normalize_truncatesLongNames() {
+        assertThat(RoomNameTokenizer.normalize("가".repeat(RoomNameTokenizer.MAX_INDEXED_LENGTH + 10)))
+                .hasSize(RoomNameTokenizer.MAX_INDEXED_LENGTH);
+    }
+
+    @Test
+    void indexGrams_containEveryQueryGramOfSubstrings() {
+        String name = RoomNameTokenizer.normalize("프로젝트 논의방");
+        var grams = RoomNameTokenizer.indexGrams(name);
+
+        assertThat(grams).contains("프", "젝트", "트 ", " 논", "의방").doesNotContain(" ");
+        for (String query : new String[]{"젝트", "트 논", "논의방", "방", "프로젝트 논의방"}) {
+            assertThat(grams).containsAll(RoomNameTokenizer.queryGrams(query));
+        }
+        assertThat(grams).doesNotContainAnyElementsOf(RoomNameTokenizer.queryGrams("젝논"));
+    }
+
+    @Test
+    void queryGrams_useUnigramOnlyForSingleCharacter() {
+        assertThat(RoomNameTokenizer.queryGrams("a")).containsExactly("a");
+        assertThat(RoomNameTokenizer.queryGrams("abab")).containsExactly("ab", "ba");
+    }
+}
@@ -0,0 +1,100 @@
+package com.ktb.chatapp.websocket.socketio.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WindowedBatcherTest {
+
+    private MeterRegistry meterRegistry;
+    private Map<String, List<List<String>>> flushed;
+    private WindowedBatcher<List<String>> batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flushed = new ConcurrentHashMap<>();
+        // flush를 직접 호출하도록 window를 길게 둔다
+        batcher = batcher(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    private WindowedBatcher<List<String>> batcher(Duration window) {
+        return new WindowedBatcher<>("test", "chat.test", window, ArrayList::new,
+                (key, batch) -> flushed.computeIfAbsent(key, k -> new ArrayList<>()).add(List.copyOf(batch)),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("키별로 모은 이벤트를 한 번에 내보내고 지표를 남긴다")
+    void flush_emitsOneBatchPerKey() {
+        batcher.submit("room-1", batch -> batch.add("a"));
+        batcher.submit("room-1", batch -> batch.add("b"));
+        batcher.submit("room-2", batch -> batch.add("c"));
+
+        batcher.flush("room-1");
+        batcher.flush("room-1");
+
+        assertThat(flushed).containsOnlyKeys("room-1");
+        assertThat(flushed.get("room-1")).containsExactly(List.of("a", "b"));
+        assertThat(meterRegistry.get("chat.test.received").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("chat.test.flushed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.test.coalescing").summary().mean()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("첫 이벤트부터 window가 지나면 예약된 flush가 실행된다")
+    void submit_schedulesFlushAfterWindow() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        try (var scheduled = new WindowedBatcher<List<String>>("test-scheduled", "chat.test_scheduled",
+                Duration.ofMillis(20), ArrayList::new, (key, batch) -> done.countDown(), meterRegistry)) {
+            scheduled.submit("room-1", batch -> batch.add("a"));
+
+            assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("flush가 실패해도 예외를 삼키고 다음 배치는 새로 모은다")
+    void flush_containsFailures() {
+        try (var failing = new WindowedBatcher<List<String>>("test-failing", "chat.test_failing",
+                Duration.ofMinutes(1), ArrayList::new, (key, batch) -> {
+                    throw new IllegalStateException("boom");
+                }, meterRegistry)) {
+            failing.submit("room-1", batch -> batch.add("a"));
+            failing.flush("room-1");
+            failing.submit("room-1", batch -> batch.add("b"));
+            failing.flush("room-1");
+
+            assertThat(meterRegistry.get("chat.test_failing.flushed").counter().count()).isEqualTo(2.0);
+            assertThat(meterRegistry.get("chat.test_failing.coalescing").summary().max()).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 배치를 모두 내보낸다")
+    void close_flushesPendingBatches() {
+        batcher.submit("room-1", batch -> batch.add("a"));
+        batcher.submit("room-2", batch -> batch.add("b"));
+
+        batcher.close();
+
+        assertThat(flushed).containsOnlyKeys("room-1", "room-2");
+    }
+}
@@ -0,0 +1,110 @@
+package com.ktb.chatapp.websocket.socketio.dispatch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SocketIOEventDispatcherTest {
+
+    private MeterRegistry meterRegistry;
+    private SocketIOEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new SocketIOEventDispatcher(meterRegistry, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트의 이벤트는 도착 순서대로 가상 스레드에서 실행된다")
+    void dispatch_preservesPerClientOrderOnVirtualThreads() throws InterruptedException {
+        UUID clientId = UUID.randomUUID();
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<Boolean> virtual = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(500);
+
+        IntStream.range(0, 500).forEach(i -> dispatcher.dispatch(clientId, "chatMessage", () -> {
+            executed.add(i);
+            virtual.add(Thread.currentThread().isVirtual());
+            done.countDown();
+        }));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+        assertThat(virtual).containsOnly(true);
+        assertThat(meterRegistry.get("socketio.dispatch.wait").tag("event", "chatMessage").timer().count())
+                .isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("느린 클라이언트가 다른 클라이언트의 이벤트를 막지 않는다")
+    void dispatch_blockedClientDoesNotStallOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherDone = new CountDownLatch(1);
+
+        dispatcher.dispatch(UUID.randomUUID(), "fetchPreviousMessages", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.dispatch(UUID.randomUUID(), "joinRoom", otherDone::countDown);
+
+        assertThat(otherDone.await(2, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("연결 해제는 먼저 들어온 이벤트가 끝난 뒤 실행되고 큐를 정리한다")
+    void dispatchDisconnect_runsAfterPendingEventsAndRemovesLane() throws InterruptedException {
+        UUID clientId = UUID.randomUUID();
+        List<String> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        dispatcher.dispatch(clientId, "leaveRoom", () -> executed.add("leaveRoom"));
+        dispatcher.dispatchDisconnect(clientId, () -> {
+            executed.add("disconnect");
+            done.countDown();
+        });
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly("leaveRoom", "disconnect");
+        Thread.sleep(50);
+        assertThat(meterRegistry.get("socketio.dispatch.clients").gauge().value()).isZero();
+        assertThat(meterRegistry.get("socketio.dispatch.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결 해제 뒤에 늦게 도착한 이벤트도 큐를 남기지 않는다")
+    void dispatch_afterDisconnectDoesNotLeakLanes() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(200);
+
+        for (int i = 0; i < 100; i++) {
+            UUID clientId = UUID.randomUUID();
+            dispatcher.dispatchDisconnect(clientId, done::countDown);
+            dispatcher.dispatch(clientId, "chatMessage", done::countDown);
+        }
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(meterRegistry.get("socketio.dispatch.clients").gauge().value()).isZero();
+    }
+}
@@ -3,22 +3,22 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.dto.ChatMessageRequest;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.RateLimitCheckResult;
 import com.ktb.chatapp.service.RateLimitService;
+import com.ktb.chatapp.service.RoomActivityCounter;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import com.ktb.chatapp.service.cache.RoomParticipantCache;
+import com.ktb.chatapp.service.cache.UserSummaryCache;
+import com.ktb.chatapp.service.message.MessageWriter;
 import com.ktb.chatapp.util.BannedWordChecker;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,9 +37,11 @@ import static org.mockito.Mockito.*;
 class ChatMessageHandlerTest {
 
     @Mock private SocketIOServer socketIOServer;
-    @Mock private MessageRepository messageRepository;
-    @Mock private RoomRepository roomRepository;
-    @Mock private UserRepository userRepository;
+    @Mock private MessageWriter messageWriter;
+    @Mock private RoomParticipantCache roomParticipantCache;
+    @Mock private UserSummaryCache userSummaryCache;
+    @Mock private RecentMessageCache recentMessageCache;
+    @Mock private RoomActivityCounter roomActivityCounter;
     @Mock private FileRepository fileRepository;
     @Mock private AiService aiService;
     @Mock private SessionService sessionService;
@@ -54,9 +56,11 @@ class ChatMessageHandlerTest {
         handler =
                 new ChatMessageHandler(
                         socketIOServer,
-                        messageRepository,
-                        roomRepository,
-                        userRepository,
+                        messageWriter,
+                        roomParticipantCache,
+                        userSummaryCache,
+                        recentMessageCache,
+                        roomActivityCounter,
                         fileRepository,
                         aiService,
                         sessionService,
@@ -79,14 +83,9 @@ class ChatMessageHandlerTest {
         when(rateLimitService.checkRateLimit(eq(socketUser.id()), anyInt(), any()))
                 .thenReturn(allowedResult);
 
-        User user = new User();
-        user.setId("user-1");
-        when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
-
-        Room room = new Room();
-        room.setId("room-1");
-        room.setParticipantIds(new HashSet<>(java.util.List.of("user-1")));
-        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        UserResponse user = UserResponse.builder().id("user-1").build();
+        when(userSummaryCache.get("user-1")).thenReturn(Optional.of(user));
+        when(roomParticipantCache.isParticipant("room-1", "user-1")).thenReturn(true);
 
         ChatMessageRequest request =
                 ChatMessageRequest.builder()
@@ -103,7 +102,7 @@ class ChatMessageHandlerTest {
         verify(client).sendEvent(eq(ERROR), payloadCaptor.capture());
         Map<String, String> payload = payloadCaptor.getValue();
         org.junit.jupiter.api.Assertions.assertEquals("MESSAGE_REJECTED", payload.get("code"));
-        verifyNoInteractions(messageRepository);
+        verifyNoInteractions(messageWriter);
         verify(socketIOServer, never()).getRoomOperations(any());
     }
 }
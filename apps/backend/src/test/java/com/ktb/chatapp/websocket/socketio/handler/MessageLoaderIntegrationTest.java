@@ -10,8 +10,13 @@ import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.AfterEach;
@@ -23,9 +28,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 
@@ -49,6 +55,7 @@ class MessageLoaderIntegrationTest {
     @MockitoSpyBean
     private MessageReadStatusService messageReadStatusService;
 
+    private RecentMessageCache recentMessageCache;
     private MessageLoader messageLoader;
     private Faker faker;
     private String roomId;
@@ -60,12 +67,15 @@ class MessageLoaderIntegrationTest {
         roomId = faker.internet().uuid();
         userId = faker.internet().uuid();
 
-        // MessageLoader 인스턴스 생성
+        // MessageLoader 인스턴스 생성 (테스트마다 빈 최근 메시지 캐시)
+        recentMessageCache = new RecentMessageCache(
+                new SimpleMeterRegistry(), 50, DataSize.ofMegabytes(1), Duration.ofMinutes(30));
         messageLoader = new MessageLoader(
                 messageRepository,
                 userRepository,
                 new MessageResponseMapper(fileRepository),
-                messageReadStatusService
+                messageReadStatusService,
+                recentMessageCache
         );
 
         // 테스트 사용자 생성 및 저장
@@ -77,7 +87,7 @@ class MessageLoaderIntegrationTest {
         userRepository.save(testUser);
 
         // MessageReadStatusService mock 설정
-        doNothing().when(messageReadStatusService).updateReadStatus(anyList(), anyString());
+        doNothing().when(messageReadStatusService).markReadUpTo(anyString(), anyString(), any());
     }
 
     @AfterEach
@@ -178,6 +188,41 @@ class MessageLoaderIntegrationTest {
         assertThat(response.isHasMore()).isFalse();
     }
 
+    @Test
+    @DisplayName("nextCursor로 조회하면 같은 timestamp의 메시지도 중복/누락 없이 모두 로드")
+    void loadMessages_withCursor_pagesThroughIdenticalTimestamps() {
+        // Given: 같은 timestamp를 가진 메시지 70개
+        LocalDateTime sameTime = LocalDateTime.now().withNano(0);
+        List<String> savedIds = IntStream.range(0, 70)
+                .mapToObj(i -> {
+                    Message message = new Message();
+                    message.setRoomId(roomId);
+                    message.setSenderId(userId);
+                    message.setContent(faker.lorem().sentence(5));
+                    message.setTimestamp(sameTime);
+                    message.setIsDeleted(false);
+                    return messageRepository.save(message).getId();
+                })
+                .toList();
+
+        // When: 커서를 따라 끝까지 조회
+        Set<String> loadedIds = new HashSet<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            FetchMessagesResponse response = messageLoader.loadMessages(
+                    new FetchMessagesRequest(roomId, 30, null, cursor), userId);
+            response.getMessages().forEach(m -> assertThat(loadedIds.add(m.getId())).isTrue());
+            cursor = response.getNextCursor();
+            assertThat(cursor == null).isEqualTo(!response.isHasMore());
+            pages++;
+        } while (cursor != null);
+
+        // Then: 30, 30, 10 세 페이지로 전부 로드
+        assertThat(pages).isEqualTo(3);
+        assertThat(loadedIds).containsExactlyInAnyOrderElementsOf(savedIds);
+    }
+
     private Message createAndSaveMessage() {
         Message message = new Message();
         message.setRoomId(roomId);
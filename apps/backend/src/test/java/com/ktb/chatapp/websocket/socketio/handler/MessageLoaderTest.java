@@ -2,13 +2,18 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.ReadWatermarks;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import net.datafaker.Faker;
+import org.bson.types.ObjectId;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,8 +23,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -43,6 +51,8 @@ class MessageLoaderTest {
     @Mock
     private MessageReadStatusService messageReadStatusService;
     
+    private RecentMessageCache recentMessageCache;
+    
     @InjectMocks
     private MessageLoader messageLoader;
     
@@ -57,11 +67,14 @@ class MessageLoaderTest {
         roomId = faker.internet().uuid();
         userId = faker.internet().uuid();
         
+        recentMessageCache = new RecentMessageCache(
+                new SimpleMeterRegistry(), 50, DataSize.ofMegabytes(1), Duration.ofMinutes(30));
         messageLoader = new MessageLoader(
                 messageRepository,
                 userRepository,
                 new MessageResponseMapper(fileRepository),
-                messageReadStatusService
+                messageReadStatusService,
+                recentMessageCache
         );
         
         var testUser = User.builder()
@@ -74,14 +87,14 @@ class MessageLoaderTest {
         // i=0: 50시간 전, i=1: 49시간 전, ... i=49: 1시간 전
         testMessages = IntStream.range(0, 50)
                 .mapToObj(i -> createMessage(
-                        faker.internet().uuid(),
+                        new ObjectId().toHexString(),
                         LocalDateTime.now().minusHours(50 - i)
                 ))
                 .toList();
         
         lenient().when(userRepository.findAllById(anySet()))
                 .thenReturn(List.of(testUser));
-        lenient().doNothing().when(messageReadStatusService).updateReadStatus(anyList(), anyString());
+        lenient().when(messageReadStatusService.findWatermarks(anyString(), any())).thenReturn(ReadWatermarks.empty());
     }
     
     private Message createMessage(String id, LocalDateTime timestamp) {
@@ -98,15 +111,14 @@ class MessageLoaderTest {
     @Test
     @DisplayName("loadMessages: 내림차순 조회 후 오름차순 재정렬")
     void loadMessages_shouldReturnAscendingOrderAfterReversing() {
-        // Given: testMessages[0~29] (50시간 전 ~ 21시간 전) - 오름차순 상태
-        List<Message> first30Messages = testMessages.subList(0, 30);
+        // Given: testMessages[0~30] (50시간 전 ~ 20시간 전) - 오름차순 상태, limit + 1개
+        List<Message> first31Messages = testMessages.subList(0, 31);
         
         // DB는 DESC 정렬로 반환한다고 가정 (최신 것 먼저)
-        // [21시간 전, 22시간 전, ..., 50시간 전]
-        var messagePage = getMessagePage(first30Messages);
+        // [20시간 전, 21시간 전, ..., 50시간 전]
+        var messagePage = getMessagePage(first31Messages);
         
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findByRoomIdAndIsDeleted(eq(roomId), eq(false), any(Pageable.class)))
                 .thenReturn(messagePage);
         
         // When: 메시지 로드
@@ -116,18 +128,16 @@ class MessageLoaderTest {
         // Then: 결과는 오름차순으로 정렬되어야 함
         assertThat(result.getMessages()).hasSize(30);
         assertThat(result.isHasMore()).isTrue();
+        assertThat(MessageCursor.decode(result.getNextCursor()).messageId())
+                .isEqualTo(testMessages.get(1).getId());
         
         // 시간순 정렬 확인 (오름차순: 오래된 것 → 최신 것)
         // [50시간 전, 49시간 전, ..., 21시간 전]
         verifyAscending(result);
     }
     
-    private static @NotNull Page<Message> getMessagePage(List<Message> first30Messages) {
-        List<Message> messages = new ArrayList<>(first30Messages.reversed());
-        
-        Pageable pageable = PageRequest.of(0, 30, Sort.by("timestamp").descending());
-        Page<Message> messagePage = new PageImpl<>(messages, pageable, 50);
-        return messagePage;
+    private static @NotNull List<Message> getMessagePage(List<Message> ascendingMessages) {
+        return new ArrayList<>(ascendingMessages.reversed());
     }
     
     @Test
@@ -138,10 +148,9 @@ class MessageLoaderTest {
         
         // DB는 DESC 정렬로 반환 (최신 것부터)
         // [1시간 전, 2시간 전, ..., 30시간 전]
-        Page<Message> messagePage = getMessagePage(last30Messages);
+        List<Message> messagePage = getMessagePage(last30Messages);
         
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findByRoomIdAndIsDeleted(eq(roomId), eq(false), any(Pageable.class)))
                 .thenReturn(messagePage);
         
         // When: 초기 메시지 로드
@@ -150,6 +159,8 @@ class MessageLoaderTest {
         
         // Then: 결과는 오름차순으로 정렬되어야 함
         assertThat(result.getMessages()).hasSize(30);
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
         
         // 시간순 정렬 확인 (오름차순: 오래된 것 → 최신 것)
         // [30시간 전, 29시간 전, ..., 1시간 전]
@@ -164,11 +175,109 @@ class MessageLoaderTest {
         }
     }
     
+    @Test
+    @DisplayName("loadMessages: cursor가 있으면 keyset 쿼리로 limit + 1개를 조회")
+    void loadMessages_withCursor_usesKeysetQuery() {
+        Message oldest = testMessages.get(30);
+        String cursor = MessageCursor.of(oldest).encode();
+        
+        when(messageRepository.findBeforeCursor(
+                eq(roomId), eq(oldest.getTimestamp().truncatedTo(ChronoUnit.MILLIS)),
+                eq(new ObjectId(oldest.getId())), any(Pageable.class)))
+                .thenReturn(getMessagePage(testMessages.subList(0, 30)));
+        
+        FetchMessagesResponse result = messageLoader.loadMessages(
+                new FetchMessagesRequest(roomId, 30, null, cursor), userId);
+        
+        assertThat(result.getMessages()).hasSize(30);
+        assertThat(result.isHasMore()).isFalse();
+        verifyAscending(result);
+        verify(messageRepository).findBeforeCursor(any(), any(), any(),
+                argThat(pageable -> pageable.getPageSize() == 31));
+    }
+    
+    @Test
+    @DisplayName("loadMessages: 발신자와 파일 수와 관계없이 페이지당 조회 횟수가 일정")
+    void loadMessages_resolvesSendersAndFilesWithOneQueryEach() {
+        // Given: 발신자 10명, 파일 메시지 5개가 섞인 31개 메시지 (limit + 1)
+        List<User> senders = IntStream.range(0, 10)
+                .mapToObj(i -> User.builder()
+                        .id(faker.internet().uuid())
+                        .name(faker.name().fullName())
+                        .email(faker.internet().emailAddress())
+                        .build())
+                .toList();
+        List<File> files = new ArrayList<>();
+        List<Message> pageMessages = new ArrayList<>();
+        for (int i = 0; i < 31; i++) {
+            Message message = createMessage(new ObjectId().toHexString(), LocalDateTime.now().minusMinutes(31 - i));
+            message.setSenderId(senders.get(i % senders.size()).getId());
+            if (i % 6 == 0 && files.size() < 5) {
+                File file = File.builder().id(faker.internet().uuid()).filename("f" + i).build();
+                files.add(file);
+                message.setFileId(file.getId());
+            }
+            pageMessages.add(message);
+        }
+        
+        when(messageRepository.findByRoomIdAndIsDeleted(eq(roomId), eq(false), any(Pageable.class)))
+                .thenReturn(getMessagePage(pageMessages));
+        when(userRepository.findAllById(anySet())).thenReturn(senders);
+        when(fileRepository.findAllById(anySet())).thenReturn(files);
+        
+        // When
+        FetchMessagesResponse result = messageLoader.loadMessages(new FetchMessagesRequest(roomId, 30, null), userId);
+        
+        // Then: 메시지 1회 + 사용자 1회 + 파일 1회
+        assertThat(result.getMessages()).hasSize(30);
+        assertThat(result.getMessages()).allSatisfy(response -> assertThat(response.getSender()).isNotNull());
+        assertThat(result.getMessages()).filteredOn(response -> response.getFile() != null).hasSize(4);
+        verify(messageRepository, times(1)).findByRoomIdAndIsDeleted(any(), any(), any(Pageable.class));
+        verify(userRepository, times(1)).findAllById(anySet());
+        verify(userRepository, never()).findById(any());
+        verify(fileRepository, times(1)).findAllById(anySet());
+        verify(fileRepository, never()).findById(any());
+    }
+    
+    @Test
+    @DisplayName("loadMessages: 첫 페이지는 한 번 조회한 뒤 최근 메시지 캐시에서 응답")
+    void loadMessages_servesRepeatedFirstPageFromRecentCache() {
+        when(messageRepository.findByRoomIdAndIsDeleted(eq(roomId), eq(false), any(Pageable.class)))
+                .thenReturn(getMessagePage(testMessages.subList(19, 50)));
+        
+        FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
+        FetchMessagesResponse first = messageLoader.loadMessages(req, userId);
+        FetchMessagesResponse second = messageLoader.loadMessages(req, userId);
+        
+        assertThat(second.getMessages()).extracting(response -> response.getId())
+                .containsExactlyElementsOf(first.getMessages().stream().map(response -> response.getId()).toList());
+        assertThat(second.isHasMore()).isTrue();
+        assertThat(second.getNextCursor()).isEqualTo(first.getNextCursor());
+        verify(messageRepository, times(1)).findByRoomIdAndIsDeleted(any(), any(), any(Pageable.class));
+        verify(messageReadStatusService, times(2)).markReadUpTo(eq(roomId), eq(userId), any());
+    }
+    
+    @Test
+    @DisplayName("loadMessages: 첫 페이지가 아니면 캐시가 있어도 MongoDB를 조회")
+    void loadMessages_withCursor_bypassesRecentCache() {
+        when(messageRepository.findByRoomIdAndIsDeleted(eq(roomId), eq(false), any(Pageable.class)))
+                .thenReturn(getMessagePage(testMessages.subList(19, 50)));
+        FetchMessagesResponse first = messageLoader.loadMessages(new FetchMessagesRequest(roomId, 30, null), userId);
+        
+        when(messageRepository.findBeforeCursor(eq(roomId), any(), any(), any(Pageable.class)))
+                .thenReturn(getMessagePage(testMessages.subList(0, 20)));
+        FetchMessagesResponse older = messageLoader.loadMessages(
+                new FetchMessagesRequest(roomId, 30, null, first.getNextCursor()), userId);
+        
+        assertThat(older.getMessages()).hasSize(20);
+        assertThat(older.isHasMore()).isFalse();
+        verify(messageRepository).findBeforeCursor(any(), any(), any(), any(Pageable.class));
+    }
+    
     @Test
     @DisplayName("loadInitialMessages: 에러 시 빈 응답")
     void loadInitialMessages_shouldReturnEmptyOnError() {
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                any(), anyBoolean(), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findByRoomIdAndIsDeleted(any(), anyBoolean(), any(Pageable.class)))
                 .thenThrow(new RuntimeException("DB error"));
         
         FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
@@ -0,0 +1,100 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.ParticipantJoinedResponse;
+import com.ktb.chatapp.dto.ParticipantLeftResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.service.RoomParticipantVersionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantDeltaAggregatorTest {
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private BroadcastOperations roomOperations;
+    @Mock private RoomParticipantVersionService roomParticipantVersionService;
+
+    private ParticipantDeltaAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ParticipantDeltaAggregator(
+                socketIOServer, roomParticipantVersionService, new SimpleMeterRegistry(), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.shutdown();
+    }
+
+    private UserResponse user(String id) {
+        return UserResponse.builder().id(id).name(id).build();
+    }
+
+    @Test
+    @DisplayName("window 안의 입장/퇴장을 사용자별 마지막 상태로 합쳐 연속된 순번으로 한 번씩 브로드캐스트한다")
+    void flush_mergesEventsIntoVersionedDeltas() {
+        when(roomParticipantVersionService.advance("room-1", 2)).thenReturn(OptionalLong.of(12));
+        when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+
+        aggregator.submitJoined("room-1", user("user-1"));
+        aggregator.submitJoined("room-1", user("user-2"));
+        aggregator.submitLeft("room-1", "user-2");
+        aggregator.submitLeft("room-1", "user-3");
+        aggregator.submitJoined("room-1", user("user-3"));
+        aggregator.submitLeft("room-1", "user-4");
+
+        aggregator.flush("room-1");
+
+        ArgumentCaptor<ParticipantLeftResponse> left = ArgumentCaptor.forClass(ParticipantLeftResponse.class);
+        ArgumentCaptor<ParticipantJoinedResponse> joined = ArgumentCaptor.forClass(ParticipantJoinedResponse.class);
+        verify(roomOperations).sendEvent(eq(PARTICIPANT_LEFT), left.capture());
+        verify(roomOperations).sendEvent(eq(PARTICIPANT_JOINED), joined.capture());
+        assertThat(left.getValue().getVersion()).isEqualTo(11);
+        assertThat(left.getValue().getUserIds()).containsExactly("user-2", "user-4");
+        assertThat(joined.getValue().getVersion()).isEqualTo(12);
+        assertThat(joined.getValue().getParticipants()).extracting(UserResponse::getId)
+                .containsExactly("user-1", "user-3");
+    }
+
+    @Test
+    @DisplayName("입장만 있으면 순번을 하나만 올린다")
+    void flush_advancesOneStepForSingleKind() {
+        when(roomParticipantVersionService.advance("room-1", 1)).thenReturn(OptionalLong.of(1));
+        when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+
+        aggregator.submitJoined("room-1", user("user-1"));
+        aggregator.flush("room-1");
+
+        verify(roomOperations).sendEvent(eq(PARTICIPANT_JOINED), any(ParticipantJoinedResponse.class));
+        verify(roomOperations, never()).sendEvent(eq(PARTICIPANT_LEFT), any(ParticipantLeftResponse.class));
+    }
+
+    @Test
+    @DisplayName("방이 사라졌으면 브로드캐스트하지 않는다")
+    void flush_skipsRemovedRoom() {
+        when(roomParticipantVersionService.advance("room-1", 1)).thenReturn(OptionalLong.empty());
+
+        aggregator.submitLeft("room-1", "user-1");
+        aggregator.flush("room-1");
+
+        verifyNoInteractions(socketIOServer);
+    }
+}
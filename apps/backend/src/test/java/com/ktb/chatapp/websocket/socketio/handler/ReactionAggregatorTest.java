@@ -0,0 +1,116 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageReactionDeltaResponse;
+import com.ktb.chatapp.dto.MessageReactionResponse;
+import com.ktb.chatapp.service.MessageReactionService;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionAggregatorTest {
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private BroadcastOperations roomOperations;
+    @Mock private SocketIOClient client;
+    @Mock private MessageReactionService messageReactionService;
+    @Mock private RecentMessageCache recentMessageCache;
+
+    private ReactionAggregator aggregator;
+
+    private ReactionAggregator aggregator(boolean fullMapBroadcast) {
+        aggregator = new ReactionAggregator(socketIOServer, messageReactionService, recentMessageCache,
+                new SimpleMeterRegistry(), Duration.ofMinutes(1), fullMapBroadcast);
+        return aggregator;
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Test
+    @DisplayName("리액션을 사용자별 마지막 요청으로 합쳐 한 번 저장하고 변경분만 브로드캐스트한다")
+    void flush_mergesEventsIntoOneWriteAndDeltaBroadcast() {
+        ReactionAggregator aggregator = aggregator(false);
+        Map<String, Set<String>> reactions = Map.of("👍", Set.of("user-1", "user-2"));
+        when(messageReactionService.applyReactions(eq("m1"), any(), any()))
+                .thenReturn(Optional.of(new MessageReactionService.ReactionUpdate("m1", "room-1", reactions)));
+        when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+
+        aggregator.submit(UUID.randomUUID(), "m1", "👍", "user-1", true);
+        aggregator.submit(UUID.randomUUID(), "m1", "👍", "user-2", true);
+        aggregator.submit(UUID.randomUUID(), "m1", "🎉", "user-1", true);
+        aggregator.submit(UUID.randomUUID(), "m1", "🎉", "user-1", false);
+
+        aggregator.flush("m1");
+
+        verify(messageReactionService, times(1)).applyReactions("m1",
+                Map.of("👍", Set.of("user-1", "user-2")),
+                Map.of("🎉", Set.of("user-1")));
+        ArgumentCaptor<MessageReactionDeltaResponse> captor = ArgumentCaptor.forClass(MessageReactionDeltaResponse.class);
+        verify(roomOperations, times(1)).sendEvent(eq(MESSAGE_REACTION_DELTA), captor.capture());
+        assertThat(captor.getValue().getChanges())
+                .extracting(MessageReactionDeltaResponse.Change::getReaction,
+                        MessageReactionDeltaResponse.Change::getUserId,
+                        MessageReactionDeltaResponse.Change::getType)
+                .containsExactly(
+                        tuple("👍", "user-1", "add"),
+                        tuple("👍", "user-2", "add"),
+                        tuple("🎉", "user-1", "remove"));
+        verify(roomOperations, never()).sendEvent(eq(MESSAGE_REACTION_UPDATE), any(MessageReactionResponse.class));
+        verify(recentMessageCache).updateReactions("room-1", "m1", reactions);
+    }
+
+    @Test
+    @DisplayName("전체 맵 브로드캐스트를 켜면 구버전 클라이언트용 업데이트도 보낸다")
+    void flush_sendsFullMapWhenEnabled() {
+        ReactionAggregator aggregator = aggregator(true);
+        Map<String, Set<String>> reactions = Map.of("👍", Set.of("user-1"));
+        when(messageReactionService.applyReactions(eq("m1"), any(), any()))
+                .thenReturn(Optional.of(new MessageReactionService.ReactionUpdate("m1", "room-1", reactions)));
+        when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+
+        aggregator.submit(UUID.randomUUID(), "m1", "👍", "user-1", true);
+        aggregator.flush("m1");
+
+        verify(roomOperations).sendEvent(eq(MESSAGE_REACTION_DELTA), any(MessageReactionDeltaResponse.class));
+        verify(roomOperations).sendEvent(MESSAGE_REACTION_UPDATE, new MessageReactionResponse("m1", reactions));
+    }
+
+    @Test
+    @DisplayName("메시지가 없으면 요청한 클라이언트에게만 오류를 보낸다")
+    void flush_notifiesRequestersWhenMessageMissing() {
+        ReactionAggregator aggregator = aggregator(false);
+        UUID sessionId = UUID.randomUUID();
+        when(messageReactionService.applyReactions(eq("m1"), any(), any())).thenReturn(Optional.empty());
+        when(socketIOServer.getClient(sessionId)).thenReturn(client);
+
+        aggregator.submit(sessionId, "m1", "👍", "user-1", true);
+        aggregator.flush("m1");
+
+        verify(client).sendEvent(ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
+        verifyNoInteractions(roomOperations);
+    }
+}
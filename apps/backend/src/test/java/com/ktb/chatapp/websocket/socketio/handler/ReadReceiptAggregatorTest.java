@@ -0,0 +1,92 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessagesReadBatchResponse;
+import com.ktb.chatapp.dto.MessagesReadResponse;
+import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.cache.RecentMessageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ_BATCH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReceiptAggregatorTest {
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private BroadcastOperations roomOperations;
+    @Mock private MessageReadStatusService messageReadStatusService;
+    @Mock private RecentMessageCache recentMessageCache;
+
+    private ReadReceiptAggregator aggregator;
+
+    private ReadReceiptAggregator aggregator(boolean legacyBroadcast) {
+        aggregator = new ReadReceiptAggregator(socketIOServer, messageReadStatusService, recentMessageCache,
+                new SimpleMeterRegistry(), Duration.ofMinutes(1), legacyBroadcast);
+        return aggregator;
+    }
+
+    @AfterEach
+    void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Test
+    @DisplayName("사용자별 최신 읽음 위치로 합쳐 한 번 저장하고 한 번 브로드캐스트한다")
+    void flush_mergesEventsIntoOneWriteAndBroadcast() {
+        ReadReceiptAggregator aggregator = aggregator(false);
+        when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        aggregator.submit("room-1", "user-1", base.plusSeconds(1), List.of("m1"));
+        aggregator.submit("room-1", "user-1", base.plusSeconds(3), List.of("m3"));
+        aggregator.submit("room-1", "user-1", base.plusSeconds(2), List.of("m2"));
+        aggregator.submit("room-1", "user-2", base, List.of("m0"));
+
+        aggregator.flush("room-1");
+
+        verify(messageReadStatusService, times(1)).markReadUpTo("room-1", Map.of(
+                "user-1", base.plusSeconds(3),
+                "user-2", base));
+        ArgumentCaptor<MessagesReadBatchResponse> captor = ArgumentCaptor.forClass(MessagesReadBatchResponse.class);
+        verify(roomOperations, times(1)).sendEvent(eq(MESSAGES_READ_BATCH), captor.capture());
+        assertThat(captor.getValue().getWatermarks())
+                .extracting(MessagesReadBatchResponse.Watermark::getUserId)
+                .containsExactlyInAnyOrder("user-1", "user-2");
+        verify(recentMessageCache, times(2)).markReadUpTo(eq("room-1"), any(), anyLong(), any());
+        verify(roomOperations, never()).sendEvent(eq(MESSAGES_READ), any(MessagesReadResponse.class));
+    }
+
+    @Test
+    @DisplayName("구버전 브로드캐스트를 켜면 사용자별로 읽은 메시지 ID도 보낸다")
+    void flush_sendsLegacyEventPerUserWhenEnabled() {
+        ReadReceiptAggregator aggregator = aggregator(true);
+        when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        aggregator.submit("room-1", "user-1", base, List.of("m1", "m2"));
+        aggregator.submit("room-1", "user-1", base.plusSeconds(1), List.of("m2", "m3"));
+        aggregator.submit("room-1", "user-2", base, List.of("m1"));
+        aggregator.flush("room-1");
+
+        verify(roomOperations).sendEvent(eq(MESSAGES_READ_BATCH), any(MessagesReadBatchResponse.class));
+        verify(roomOperations).sendEvent(MESSAGES_READ, new MessagesReadResponse("user-1", List.of("m1", "m2", "m3")));
+        verify(roomOperations).sendEvent(MESSAGES_READ, new MessagesReadResponse("user-2", List.of("m1")));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.dto.MessagesSyncResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomRejoinHandlerTest {
+
+    @Mock private MessageLoader messageLoader;
+    @Mock private SocketIOClient client;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RoomRejoinHandler handler;
+
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
+    @Test
+    @DisplayName("참여 중인 방에 다시 구독하고 lastSeen이 있는 참여 방만 이후 메시지를 보낸다")
+    void rejoin_syncsOnlyJoinedRoomsWithLastSeen() {
+        handler = new RoomRejoinHandler(messageLoader, meterRegistry, 4, 100, 50);
+        MessagesSyncResponse synced = new MessagesSyncResponse("room-1", List.of(), false);
+        when(messageLoader.loadSince("room-1", "message-1", 50)).thenReturn(synced);
+        when(client.isChannelOpen()).thenReturn(true);
+
+        handler.rejoin(client, Set.of("room-1", "room-2"),
+                Map.of("room-1", "message-1", "room-3", "message-3"));
+
+        verify(client).joinRooms(Set.of("room-1", "room-2"));
+        verify(client, timeout(1000)).sendEvent(MESSAGES_SYNCED, synced);
+        verify(messageLoader, timeout(1000).times(1)).loadSince(anyString(), anyString(), anyInt());
+        assertThat(meterRegistry.counter("chat.rejoin.rooms").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 중인 재접속이 상한을 넘으면 조회 없이 truncated로 응답한다")
+    void rejoin_shedsWhenTooManyPending() {
+        handler = new RoomRejoinHandler(messageLoader, meterRegistry, 4, 0, 50);
+
+        handler.rejoin(client, Set.of("room-1"), Map.of("room-1", "message-1"));
+
+        ArgumentCaptor<MessagesSyncResponse> response = ArgumentCaptor.forClass(MessagesSyncResponse.class);
+        verify(client).sendEvent(eq(MESSAGES_SYNCED), response.capture());
+        assertThat(response.getValue().getRoomId()).isEqualTo("room-1");
+        assertThat(response.getValue().isTruncated()).isTrue();
+        verifyNoInteractions(messageLoader);
+        assertThat(meterRegistry.counter("chat.rejoin.shed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("lastSeen이 없으면 구독만 하고 동기화 메시지를 보내지 않는다")
+    void rejoin_withoutLastSeenOnlyResubscribes() {
+        handler = new RoomRejoinHandler(messageLoader, meterRegistry, 4, 100, 50);
+
+        handler.rejoin(client, Set.of("room-1"), Map.of());
+
+        verify(client).joinRooms(Set.of("room-1"));
+        verify(client, never()).sendEvent(eq(MESSAGES_SYNCED), any());
+        assertThat(meterRegistry.timer("chat.rejoin.latency").count()).isEqualTo(1);
+    }
+}
@@ -46,6 +46,9 @@ export const useChatRoom = () => {
   const initialLoadCompletedRef = useRef(false);
   const processedMessageIds = useRef(new Set());
   const loadMoreTimeoutRef = useRef(null);
+  const nextCursorRef = useRef(null);
+  const participantsVersionRef = useRef(null);
+  const participantsSnapshotPendingRef = useRef(false);
 
   // Socket handling setup
   const {
@@ -80,7 +83,7 @@ export const useChatRoom = () => {
     getFilteredParticipants,
     insertMention,
     removeFilePreview
-  } = useMessageHandling(socketRef, currentUser, router, undefined, messages, loadingMessages, setLoadingMessages);
+  } = useMessageHandling(socketRef, currentUser, router, undefined, messages, loadingMessages, setLoadingMessages, nextCursorRef);
 
   // Cleanup 함수 수정
   const cleanup = useCallback((reason = 'MANUAL') => {
@@ -103,9 +106,14 @@ export const useChatRoom = () => {
         socketRef.current.off('message');
         socketRef.current.off('previousMessages');
         socketRef.current.off('previousMessagesLoaded');
-        socketRef.current.off('participantsUpdate');
-        socketRef.current.off('messagesRead');
+        socketRef.current.off('messagesSynced');
+        socketRef.current.off('joinRoomSuccess');
+        socketRef.current.off('participantJoined');
+        socketRef.current.off('participantLeft');
+        socketRef.current.off('participantsSnapshot');
+        socketRef.current.off('messagesReadBatch');
         socketRef.current.off('messageReactionUpdate');
+        socketRef.current.off('messageReactionDelta');
         socketRef.current.off('session_ended');
         socketRef.current.off('error');
       }
@@ -118,6 +126,8 @@ export const useChatRoom = () => {
 
       // Reset refs
       processedMessageIds.current.clear();
+      participantsVersionRef.current = null;
+      participantsSnapshotPendingRef.current = false;
       previousMessagesRef.current.clear();
       messageProcessingRef.current = false;
 
@@ -163,7 +173,8 @@ export const useChatRoom = () => {
   const {
     handleReactionAdd,
     handleReactionRemove,
-    handleReactionUpdate
+    handleReactionUpdate,
+    handleReactionDelta
   } = useReactionHandling(socketRef, currentUser, messages, setMessages);
 
   // 메시지 처리 유틸리티 함수
@@ -210,38 +221,86 @@ export const useChatRoom = () => {
   const setupEventListeners = useCallback(() => {
     if (!socketRef.current || !mountedRef.current) return;
 
-    // 참가자 업데이트 이벤트
-    socketRef.current.on('participantsUpdate', (participants) => {
+    // 참가자 변경분 적용: version이 마지막 version + 1이 아니면 전체 목록을 다시 요청
+    // 같은 방의 flush가 동시에 실행되면 순서가 뒤바뀌어 올 수 있으므로,
+    // 요청한 전체 목록이 도착할 때까지는 추가 요청 없이 변경분을 무시한다
+    const applyParticipantDelta = ({ roomId, version }, apply) => {
+      if (participantsSnapshotPendingRef.current) return;
+      const current = participantsVersionRef.current;
+      if (current !== null && version <= current) return;
+      if (current === null || version !== current + 1) {
+        participantsSnapshotPendingRef.current = true;
+        socketRef.current?.emit('getParticipants', roomId);
+        return;
+      }
+      participantsVersionRef.current = version;
+      setRoom(prev => prev ? ({
+        ...prev,
+        participants: apply(prev.participants || [])
+      }) : prev);
+    };
+
+    const participantIdOf = (participant) => participant?.id || participant?._id;
+
+    socketRef.current.on('joinRoomSuccess', (data) => {
+      if (!mountedRef.current || typeof data?.participantsVersion !== 'number') return;
+      participantsVersionRef.current = data.participantsVersion;
+      if (Array.isArray(data.participants)) {
+        participantsSnapshotPendingRef.current = false;
+        setRoom(prev => prev ? ({ ...prev, participants: data.participants }) : prev);
+      }
+    });
+
+    socketRef.current.on('participantsSnapshot', ({ version, participants }) => {
       if (!mountedRef.current) return;
-      setRoom(prev => ({
+      participantsSnapshotPendingRef.current = false;
+      participantsVersionRef.current = version;
+      setRoom(prev => prev ? ({
         ...prev,
         participants: participants || []
-      }));
+      }) : prev);
+    });
+
+    socketRef.current.on('participantJoined', (data) => {
+      if (!mountedRef.current) return;
+      applyParticipantDelta(data, (participants) => {
+        const joinedIds = new Set((data.participants || []).map(participantIdOf));
+        return [
+          ...participants.filter(p => !joinedIds.has(participantIdOf(p))),
+          ...(data.participants || [])
+        ];
+      });
     });
 
-    // 읽음 상태 업데이트 이벤트 (메시지 목록의 readers 배열 업데이트)
-    socketRef.current.on('messagesRead', ({ userId, messageIds, timestamp }) => {
+    socketRef.current.on('participantLeft', (data) => {
       if (!mountedRef.current) return;
+      const leftIds = new Set(data.userIds || []);
+      applyParticipantDelta(data, (participants) =>
+        participants.filter(p => !leftIds.has(participantIdOf(p)))
+      );
+    });
+
+    // 읽음 상태 업데이트 이벤트 (사용자별 읽음 위치 이전 메시지의 readers 배열 업데이트)
+    socketRef.current.on('messagesReadBatch', ({ watermarks }) => {
+      if (!mountedRef.current || !watermarks?.length) return;
 
       setMessages(prev => prev.map(msg => {
-        // 해당 메시지가 읽음 처리된 메시지인지 확인
-        if (messageIds.includes(msg._id)) {
-          // 이미 읽은 사용자인지 확인
-          const alreadyRead = msg.readers?.some(reader => 
-            reader.userId === userId || reader._id === userId
-          );
-          
-          if (!alreadyRead) {
-            return {
-              ...msg,
-              readers: [
-                ...(msg.readers || []),
-                { userId, readAt: timestamp || new Date() }
-              ]
-            };
-          }
+        const messageTime = new Date(msg.timestamp).getTime();
+        const newReaders = watermarks.filter(({ userId, readUpTo }) =>
+          messageTime <= readUpTo &&
+          !msg.readers?.some(reader => reader.userId === userId || reader._id === userId)
+        );
+
+        if (newReaders.length === 0) {
+          return msg;
         }
-        return msg;
+        return {
+          ...msg,
+          readers: [
+            ...(msg.readers || []),
+            ...newReaders.map(({ userId }) => ({ userId, readAt: new Date() }))
+          ]
+        };
       }));
     });
 
@@ -276,8 +335,9 @@ export const useChatRoom = () => {
           throw new Error('Invalid response format');
         }
 
-        const { messages: loadedMessages = [], hasMore } = response;
+        const { messages: loadedMessages = [], hasMore, nextCursor } = response;
         const isInitialLoad = messages.length === 0;
+        nextCursorRef.current = nextCursor || null;
 
         processMessages(loadedMessages, hasMore, isInitialLoad);
         setLoadingMessages(false);
@@ -294,12 +354,35 @@ export const useChatRoom = () => {
     socketRef.current.on('previousMessages', handlePreviousMessages);
     socketRef.current.on('previousMessagesLoaded', handlePreviousMessages);
 
+    // 재접속 시 놓친 메시지: 너무 많아 잘린 경우 첫 페이지를 다시 불러온다
+    socketRef.current.on('messagesSynced', ({ roomId, messages: missed = [], truncated }) => {
+      if (!mountedRef.current || roomId !== router?.query?.room) return;
+
+      if (truncated) {
+        socketRef.current?.emit('fetchPreviousMessages', { roomId, limit: 30 });
+        return;
+      }
+
+      const newMessages = missed.filter(msg => msg?._id && !processedMessageIds.current.has(msg._id));
+      if (newMessages.length === 0) return;
+      newMessages.forEach(msg => processedMessageIds.current.add(msg._id));
+      setMessages(prev => {
+        const known = new Set(prev.map(msg => msg._id));
+        return [...prev, ...newMessages.filter(msg => !known.has(msg._id))];
+      });
+    });
+
     // 리액션 이벤트
     socketRef.current.on('messageReactionUpdate', (data) => {
       if (!mountedRef.current) return;
       handleReactionUpdate(data);
     });
 
+    socketRef.current.on('messageReactionDelta', (data) => {
+      if (!mountedRef.current) return;
+      handleReactionDelta(data);
+    });
+
     // 세션 이벤트
     socketRef.current.on('session_ended', () => {
       if (!mountedRef.current) return;
@@ -321,7 +404,7 @@ export const useChatRoom = () => {
       setError(error.message || '채팅 연결에 문제가 발생했습니다.');
     });
 
-  }, [processMessages, setHasMoreMessages, cleanup, handleReactionUpdate, setLoadingMessages, setError, logout]);
+  }, [processMessages, setHasMoreMessages, cleanup, handleReactionUpdate, handleReactionDelta, setLoadingMessages, setError, logout]);
 
   // Room handling hook initialization
   const {
@@ -351,6 +434,20 @@ export const useChatRoom = () => {
     processMessages
   );
 
+  // 방이 바뀌면 이전 방의 히스토리 커서를 버린다
+  useEffect(() => {
+    nextCursorRef.current = null;
+  }, [router.query.room]);
+
+  // 현재 방에서 마지막으로 받은 메시지를 기록 (재접속 시 이후 메시지만 동기화)
+  useEffect(() => {
+    const roomId = router.query.room;
+    const lastMessage = messages[messages.length - 1];
+    if (roomId && lastMessage?._id) {
+      socketService.setLastSeen(roomId, lastMessage._id);
+    }
+  }, [messages, router.query.room]);
+
   // Socket connection monitoring
   useEffect(() => {
     if (!socketRef.current || !currentUser) return;
@@ -108,10 +108,34 @@ export const useReactionHandling = (socketRef, currentUser, messages, setMessage
     );
   }, [setMessages]);
 
+  // 서버가 모아서 보내는 변경분({ reaction, userId, type })을 현재 리액션에 적용
+  const handleReactionDelta = useCallback(({ messageId, changes }) => {
+    if (!changes?.length) return;
+    setMessages(prevMessages =>
+      prevMessages.map(msg => {
+        if (msg._id !== messageId) return msg;
+        const reactions = { ...(msg.reactions || {}) };
+        changes.forEach(({ reaction, userId, type }) => {
+          const users = (reactions[reaction] || []).filter(id => id !== userId);
+          if (type === 'add') {
+            users.push(userId);
+          }
+          if (users.length > 0) {
+            reactions[reaction] = users;
+          } else {
+            delete reactions[reaction];
+          }
+        });
+        return { ...msg, reactions };
+      })
+    );
+  }, [setMessages]);
+
   return {
     handleReactionAdd,
     handleReactionRemove,
-    handleReactionUpdate
+    handleReactionUpdate,
+    handleReactionDelta
   };
 };
 
@@ -19,6 +19,8 @@ class SocketService {
     this.retryDelay = 3000;
     this.reactionHandlers = new Set();
     this.connected = false;
+    // 방별 마지막으로 받은 메시지 ID (재접속 handshake에 실어 놓친 메시지만 받는다)
+    this.lastSeen = {};
   }
 
   async connect(options = {}) {
@@ -40,6 +42,10 @@ class SocketService {
 
         this.socket = io(socketUrl, {
           ...options,
+          // 재접속할 때마다 호출되므로 그 시점의 lastSeen이 전달된다
+          ...(options.auth && {
+            auth: (cb) => cb({ ...options.auth, lastSeen: { ...this.lastSeen } })
+          }),
           transports: ['websocket', 'polling'],
           reconnection: true,
           reconnectionAttempts: this.maxReconnectAttempts,
@@ -151,6 +157,7 @@ class SocketService {
     }
 
     if (reason === CLEANUP_REASONS.MANUAL) {
+      this.lastSeen = {};
       this.reconnectAttempts = 0;
       this.isReconnecting = false;
       this.connectionPromise = null;
@@ -303,6 +310,15 @@ class SocketService {
     }
   }
 
+  setLastSeen(roomId, messageId) {
+    if (!roomId) return;
+    if (messageId) {
+      this.lastSeen[roomId] = messageId;
+    } else {
+      delete this.lastSeen[roomId];
+    }
+  }
+
   isConnected() {
     return this.connected && this.socket?.connected;
   }
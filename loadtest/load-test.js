@@ -242,7 +242,7 @@ class LoadTester {
           }
         });
 
-        socket.on('messagesRead', (data) => {
+        socket.on('messagesReadBatch', (data) => {
           this.metrics.readAcksReceived++;
         });
 
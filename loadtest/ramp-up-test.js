@@ -499,7 +499,7 @@ class RampUpLoadTester {
         }
       });
 
-      socket.on('messagesRead', (data) => {
+      socket.on('messagesReadBatch', (data) => {
         this.metrics.readAcksReceived++;
       });
 